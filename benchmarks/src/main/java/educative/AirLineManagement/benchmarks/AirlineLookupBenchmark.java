@@ -0,0 +1,90 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airline;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Flight;
+import educative.AirLineManagement.FlightInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Registry lookups on the Airline singleton with a month of daily instances registered: by flight number,
+// by departure airport and by departure date.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AirlineLookupBenchmark {
+    private static final int DAYS = 30;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int instances;
+
+    private Airline airline;
+    private List<Airport> airports;
+    private String[] flightNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        airline = Airline.getInstance();
+        airports = BenchmarkData.createAirports(200);
+        Aircraft aircraft = new Aircraft("Airbus A320", "A320", "A320-200", 0, new ArrayList<>());
+        flightNumbers = new String[Math.max(1, instances / DAYS)];
+        for (int f = 0; f < flightNumbers.length; f++) {
+            flightNumbers[f] = "FL" + f;
+            Flight flight = BenchmarkData.createFlight(flightNumbers[f], 90, airports.get(f % airports.size()),
+                    airports.get((f + 1) % airports.size()));
+            long departureOfDay = f * 60_000L % BenchmarkData.DAY_MILLIS;
+            for (int d = 0; d < DAYS; d++) {
+                FlightInstance instance = BenchmarkData.createInstance(flight, BenchmarkData.BASE_TIME + d * BenchmarkData.DAY_MILLIS
+                        + departureOfDay, aircraft, 120.0);
+                flight.getInstances().add(instance);
+            }
+            airline.addFlight(flight);
+        }
+    }
+
+    // The registry is a singleton; leave it empty for the next scale in this fork.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (String flightNo : flightNumbers) {
+            airline.cancelFlight(airline.getFlight(flightNo));
+        }
+    }
+
+    @Benchmark
+    public Flight getFlight() {
+        return airline.getFlight(flightNumbers[ThreadLocalRandom.current().nextInt(flightNumbers.length)]);
+    }
+
+    @Benchmark
+    public Set<Flight> getFlightsFrom() {
+        return airline.getFlightsFrom(airports.get(ThreadLocalRandom.current().nextInt(airports.size())));
+    }
+
+    @Benchmark
+    public int getInstancesOn() {
+        return airline.getInstancesOn(FIRST_DAY.plusDays(ThreadLocalRandom.current().nextInt(DAYS))).size();
+    }
+}
@@ -0,0 +1,101 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Account;
+import educative.AirLineManagement.Admin;
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Crew;
+import educative.AirLineManagement.Flight;
+import educative.AirLineManagement.FlightInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Admin.assignCrew against a year of duties spread over one crew member per hundred instances. Each call is
+// undone when it succeeds so the roster keeps its size. assignCrew reports to the console on every call;
+// that output is still built but goes to a discarding stream, so the score covers the rest-rule check
+// and the message, not terminal I/O.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AssignCrewBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int instances;
+
+    private Admin admin;
+    private Crew[] crew;
+    private FlightInstance[] flights;
+    private final List<Crew> assignedCrew = new ArrayList<>();
+    private final List<FlightInstance> assignedFlights = new ArrayList<>();
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        Random random = new Random(9);
+        admin = new Admin("Admin", null, "admin@example.com", null, new Account(0, "admin", "secret"));
+        crew = new Crew[Math.max(10, instances / 100)];
+        for (int c = 0; c < crew.length; c++) {
+            crew[c] = new Crew("Crew " + c, null, null, null, new Account(c + 1, "crew" + c, "secret"));
+        }
+        List<Airport> airports = BenchmarkData.createAirports(2);
+        Flight flight = BenchmarkData.createFlight("FL1", 120, airports.get(0), airports.get(1));
+        Aircraft aircraft = new Aircraft("Airbus A320", "A320", "A320-200", 0, new ArrayList<>());
+        flights = new FlightInstance[instances];
+        for (int n = 0; n < instances; n++) {
+            long departure = BenchmarkData.BASE_TIME + random.nextInt(365 * 24 * 60) * 60_000L;
+            flights[n] = BenchmarkData.createInstance(flight, departure, aircraft, 120.0);
+            Crew member = crew[random.nextInt(crew.length)];
+            if (admin.assignCrew(member, flights[n])) {
+                assignedCrew.add(member);
+                assignedFlights.add(flights[n]);
+            }
+        }
+    }
+
+    // Admin keeps one roster per JVM; empty it so the next scale starts from nothing.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < assignedCrew.size(); i++) {
+            admin.unassignCrew(assignedCrew.get(i), assignedFlights.get(i));
+        }
+        assignedCrew.clear();
+        assignedFlights.clear();
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public boolean assignCrew() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Crew member = crew[random.nextInt(crew.length)];
+        FlightInstance instance = flights[random.nextInt(flights.length)];
+        boolean assigned = admin.assignCrew(member, instance);
+        if (assigned) {
+            admin.unassignCrew(member, instance);
+        }
+        return assigned;
+    }
+}
@@ -0,0 +1,76 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Flight;
+import educative.AirLineManagement.FlightInstance;
+import educative.AirLineManagement.FlightSeat;
+import educative.AirLineManagement.FlightStatus;
+import educative.AirLineManagement.Seat;
+import educative.AirLineManagement.SeatClass;
+import educative.AirLineManagement.SeatType;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+// Schedules and fleets shared by the benchmark states. Everything is seeded so runs are comparable.
+final class BenchmarkData {
+    static final long BASE_TIME = 1_767_225_600_000L; // 2026-01-01T00:00Z
+    static final long DAY_MILLIS = 24 * 3600_000L;
+
+    private BenchmarkData() {
+    }
+
+    static List<Airport> createAirports(int count) {
+        List<Airport> airports = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            airports.add(new Airport("Airport " + i, "A" + i, null, new ArrayList<>()));
+        }
+        return airports;
+    }
+
+    // A single-aisle layout: the first four rows are business, every third seat of a row has extra leg room.
+    static Aircraft createAircraft(int seatCount) {
+        List<Seat> layout = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            layout.add(new Seat((i / 6 + 1) + String.valueOf((char) ('A' + i % 6)), i % 6 == 2 ? SeatType.EXTRA_LEG_ROOM : SeatType.REGULAR,
+                    i < 24 ? SeatClass.BUSINESS : SeatClass.ECONOMY));
+        }
+        return new Aircraft("Airbus A321", "A321", "A321neo", seatCount, layout);
+    }
+
+    static Flight createFlight(String flightNo, int durationMin, Airport from, Airport to) {
+        return new Flight(flightNo, durationMin, from, to, new ArrayList<>());
+    }
+
+    static FlightInstance createInstance(Flight flight, long departure, Aircraft aircraft, double baseFare) {
+        return new FlightInstance(flight, new Date(departure), "G1", FlightStatus.SCHEDULED, aircraft, baseFare);
+    }
+
+    // Daily flights between random airport pairs, repeated for the given number of days, each with one economy seat.
+    static List<Flight> createSchedule(List<Airport> airports, int instanceCount, int days, Random random) {
+        Aircraft aircraft = new Aircraft("Airbus A320", "A320", "A320-200", 0, new ArrayList<>());
+        List<Flight> flights = new ArrayList<>();
+        int flightCount = Math.max(1, instanceCount / days);
+        for (int f = 0; f < flightCount; f++) {
+            Airport from = airports.get(random.nextInt(airports.size()));
+            Airport to = airports.get(random.nextInt(airports.size()));
+            while (to == from) {
+                to = airports.get(random.nextInt(airports.size()));
+            }
+            Flight flight = createFlight("FL" + f, 60 + random.nextInt(360), from, to);
+            long departureOfDay = random.nextInt(24 * 60) * 60_000L;
+            double fare = 80 + random.nextInt(400);
+            for (int d = 0; d < days; d++) {
+                List<FlightSeat> seats = new ArrayList<>();
+                seats.add(new FlightSeat("1A", SeatType.REGULAR, SeatClass.ECONOMY, fare));
+                flight.getInstances().add(new FlightInstance(flight, new Date(BASE_TIME + d * DAY_MILLIS + departureOfDay), "G1",
+                        FlightStatus.SCHEDULED, aircraft, seats));
+            }
+            flights.add(flight);
+        }
+        return flights;
+    }
+}
@@ -0,0 +1,85 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Flight;
+import educative.AirLineManagement.FlightInstance;
+import educative.AirLineManagement.FlightSeat;
+import educative.AirLineManagement.SeatClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Threads book a seat and cancel it again as fast as they can. spreadOut picks a random instance per booking,
+// so contention falls as the scale grows; sameInstance sends every thread to one instance, which is
+// the worst case for the seat map's CAS loop. Override the thread count with -t.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ContendedBookingBenchmark {
+    private static final int SEATS_PER_AIRCRAFT = 180;
+
+    @Benchmark
+    public boolean spreadOut(Fleet fleet) {
+        return bookAndCancel(fleet.flights[ThreadLocalRandom.current().nextInt(fleet.flights.length)]);
+    }
+
+    @Benchmark
+    public boolean sameInstance(HotInstance hot) {
+        return bookAndCancel(hot.instance);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Fleet {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int instances;
+
+        private FlightInstance[] flights;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<Airport> airports = BenchmarkData.createAirports(2);
+            Flight flight = BenchmarkData.createFlight("FL1", 180, airports.get(0), airports.get(1));
+            Aircraft aircraft = BenchmarkData.createAircraft(SEATS_PER_AIRCRAFT);
+            flights = new FlightInstance[instances];
+            for (int n = 0; n < instances; n++) {
+                flights[n] = BenchmarkData.createInstance(flight, BenchmarkData.BASE_TIME + n * 60_000L, aircraft, 150.0);
+            }
+        }
+    }
+
+    // One instance for every thread; it takes no scale, so it is not re-run for each one
+    @State(Scope.Benchmark)
+    public static class HotInstance {
+        private FlightInstance instance;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<Airport> airports = BenchmarkData.createAirports(2);
+            Flight flight = BenchmarkData.createFlight("FL1", 180, airports.get(0), airports.get(1));
+            instance = BenchmarkData.createInstance(flight, BenchmarkData.BASE_TIME, BenchmarkData.createAircraft(SEATS_PER_AIRCRAFT), 150.0);
+        }
+    }
+
+    private static boolean bookAndCancel(FlightInstance instance) {
+        FlightSeat seat = instance.bookSeat(SeatClass.ECONOMY, null, "R");
+        return seat != null && instance.releaseSeat(seat, "R");
+    }
+}
@@ -0,0 +1,84 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.FlightInstance;
+import educative.AirLineManagement.GateAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// One busy airport day: the full interval-partitioning plan, and single-departure re-plans after a delay.
+// Delays are taken from each departure's original slot so the day keeps its shape however long the run.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GateReplanBenchmark {
+    private static final int GATES = 120;
+
+    @Param({"1000", "2000"})
+    public int movements;
+
+    private List<FlightInstance> departures;
+    private long[] scheduled;
+    private GateAllocator allocator;
+    private List<String> gates;
+    private Airport hub;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(11);
+        hub = new Airport("Hub", "HUB", null, new ArrayList<>());
+        Airport spoke = new Airport("Spoke", "SPK", null, new ArrayList<>());
+        Aircraft aircraft = new Aircraft("Airbus A320", "A320", "A320-200", 0, new ArrayList<>());
+        gates = new ArrayList<>();
+        for (int g = 1; g <= GATES; g++) {
+            gates.add("G" + g);
+        }
+        departures = new ArrayList<>(movements);
+        scheduled = new long[movements];
+        for (int n = 0; n < movements; n++) {
+            scheduled[n] = BenchmarkData.BASE_TIME + 5 * 3600_000L + random.nextInt(18 * 60) * 60_000L;
+            FlightInstance instance = BenchmarkData.createInstance(BenchmarkData.createFlight("FL" + n, 90, hub, spoke), scheduled[n], aircraft, 120.0);
+            instance.setGate(null);
+            departures.add(instance);
+        }
+        allocator = new GateAllocator(hub, gates, 40, 15);
+        allocator.planDay(departures);
+    }
+
+    @Benchmark
+    public GateAllocator planDay() {
+        GateAllocator day = new GateAllocator(hub, gates, 40, 15);
+        day.planDay(departures);
+        return day;
+    }
+
+    @Benchmark
+    public String reassignAfterDelay() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = random.nextInt(movements);
+        FlightInstance delayed = departures.get(n);
+        delayed.setDepartureTime(new Date(scheduled[n] + (random.nextInt(61) - 20) * 60_000L));
+        return allocator.reassign(delayed);
+    }
+}
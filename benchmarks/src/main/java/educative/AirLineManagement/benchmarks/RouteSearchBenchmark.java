@@ -0,0 +1,58 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Route;
+import educative.AirLineManagement.RouteCriteria;
+import educative.AirLineManagement.RoutePlanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Itinerary search with up to two connections between random airports over a week of daily flights.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RouteSearchBenchmark {
+    private static final int AIRPORTS = 300;
+
+    @Param({"1000", "10000", "100000"})
+    public int instances;
+
+    @Param({"FASTEST", "CHEAPEST"})
+    public RouteCriteria criteria;
+
+    private List<Airport> airports;
+    private RoutePlanner planner;
+    private Date earliest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        airports = BenchmarkData.createAirports(AIRPORTS);
+        planner = new RoutePlanner(BenchmarkData.createSchedule(airports, instances, 7, new Random(42)));
+        earliest = new Date(BenchmarkData.BASE_TIME + BenchmarkData.DAY_MILLIS);
+    }
+
+    @Benchmark
+    public Route findRoute() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return planner.findRoute(airports.get(random.nextInt(AIRPORTS)), airports.get(random.nextInt(AIRPORTS)), earliest, criteria, 2);
+    }
+}
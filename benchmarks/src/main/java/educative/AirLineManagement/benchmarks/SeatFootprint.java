@@ -0,0 +1,58 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Flight;
+import educative.AirLineManagement.FlightInstance;
+import educative.AirLineManagement.FlightSeat;
+import educative.AirLineManagement.FlightStatus;
+import educative.AirLineManagement.Seat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Retained heap per flight instance: one FlightSeat object per seat versus the shared layout plus bitsets.
+// This is a footprint measurement, not a timing, so it runs as a plain main rather than under JMH:
+//   java -cp benchmarks/target/benchmarks.jar educative.AirLineManagement.benchmarks.SeatFootprint [instances]
+public class SeatFootprint {
+    public static void main(String[] args) {
+        int instanceCount = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        Aircraft aircraft = BenchmarkData.createAircraft(180);
+        List<Airport> airports = BenchmarkData.createAirports(2);
+        Flight flight = BenchmarkData.createFlight("FL1", 120, airports.get(0), airports.get(1));
+
+        long before = usedHeap();
+        List<FlightInstance> perSeatObjects = new ArrayList<>(instanceCount);
+        for (int n = 0; n < instanceCount; n++) {
+            List<FlightSeat> seats = new ArrayList<>(aircraft.getSeats().size());
+            for (Seat seat : aircraft.getSeats()) {
+                seats.add(new FlightSeat(seat.getSeatNumber(), seat.getType(), seat.getSeatClass(), 150.0));
+            }
+            perSeatObjects.add(new FlightInstance(flight, new Date(BenchmarkData.BASE_TIME), "G1", FlightStatus.SCHEDULED, aircraft, seats));
+        }
+        long perSeatBytes = (usedHeap() - before) / instanceCount;
+        perSeatObjects.clear();
+
+        before = usedHeap();
+        List<FlightInstance> shared = new ArrayList<>(instanceCount);
+        for (int n = 0; n < instanceCount; n++) {
+            FlightInstance instance = BenchmarkData.createInstance(flight, BenchmarkData.BASE_TIME, aircraft, 150.0);
+            instance.getSeatMap();
+            shared.add(instance);
+        }
+        long sharedBytes = (usedHeap() - before) / instanceCount;
+
+        System.out.printf("seat state per instance (%d seats): %,d bytes with FlightSeat objects, %,d bytes with shared layout (%.1fx smaller)%n",
+                aircraft.getSeats().size(), perSeatBytes, sharedBytes, (double) perSeatBytes / Math.max(1, sharedBytes));
+        shared.clear();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
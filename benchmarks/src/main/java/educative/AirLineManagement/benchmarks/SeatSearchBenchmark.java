@@ -0,0 +1,85 @@
+package educative.AirLineManagement.benchmarks;
+
+import educative.AirLineManagement.Aircraft;
+import educative.AirLineManagement.Airport;
+import educative.AirLineManagement.Flight;
+import educative.AirLineManagement.FlightInstance;
+import educative.AirLineManagement.FlightSeat;
+import educative.AirLineManagement.SeatClass;
+import educative.AirLineManagement.SeatStatus;
+import educative.AirLineManagement.SeatType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// First free economy seat with extra leg room on a random instance: a customer-style scan over
+// FlightInstance.getSeats() against the seat map lookup behind findAvailableSeat. Every instance has most
+// of those seats sold, so both have to walk the cabin; larger scales mostly add cache misses.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SeatSearchBenchmark {
+    private static final int SEATS_PER_AIRCRAFT = 180;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int instances;
+
+    private FlightInstance[] flights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(3);
+        List<Airport> airports = BenchmarkData.createAirports(2);
+        Flight flight = BenchmarkData.createFlight("FL1", 180, airports.get(0), airports.get(1));
+        Aircraft aircraft = BenchmarkData.createAircraft(SEATS_PER_AIRCRAFT);
+        flights = new FlightInstance[instances];
+        for (int n = 0; n < instances; n++) {
+            FlightInstance instance = BenchmarkData.createInstance(flight, BenchmarkData.BASE_TIME + n * 60_000L, aircraft, 150.0);
+            // Sell every leg-room seat except up to four at the back of the cabin.
+            List<FlightSeat> seats = instance.getSeats();
+            int unsold = random.nextInt(5);
+            for (int i = SEATS_PER_AIRCRAFT - 1 - unsold * 6; i >= 0; i--) {
+                FlightSeat seat = seats.get(i);
+                if (seat.getSeatClass() == SeatClass.ECONOMY && seat.getType() == SeatType.EXTRA_LEG_ROOM) {
+                    instance.bookSeat(seat, "R");
+                }
+            }
+            flights[n] = instance;
+        }
+    }
+
+    @Benchmark
+    public FlightSeat getSeatsScan() {
+        FlightInstance instance = flights[ThreadLocalRandom.current().nextInt(flights.length)];
+        for (FlightSeat seat : instance.getSeats()) {
+            if (seat.getSeatClass() == SeatClass.ECONOMY && seat.getType() == SeatType.EXTRA_LEG_ROOM
+                    && seat.getStatus() == SeatStatus.AVAILABLE) {
+                return seat;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public FlightSeat findAvailableSeat() {
+        FlightInstance instance = flights[ThreadLocalRandom.current().nextInt(flights.length)];
+        return instance.findAvailableSeat(SeatClass.ECONOMY, SeatType.EXTRA_LEG_ROOM);
+    }
+}
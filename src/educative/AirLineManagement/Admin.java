@@ -1,12 +1,11 @@
 package educative.AirLineManagement;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.ArrayList;
 
 public class Admin extends Person {
 
-    private static final HashMap<String, List<FlightInstance>> crewScheduleMap = new HashMap<>();
+    private static final int MIN_CREW_REST_MINUTES = 10 * 60;
+    private static final CrewScheduleIndex crewSchedule = new CrewScheduleIndex(MIN_CREW_REST_MINUTES);
 
     public Admin(String name, Address address, String email, String phone, Account account) {
         super(name, address, email, phone, account);
@@ -23,19 +22,26 @@ public class Admin extends Person {
     }
 
     public boolean cancelFlight(Flight flight) {
-        flight.setInstances(null);
-        return true;
+        return Airline.getInstance().cancelFlight(flight);
     }
 
     public boolean assignCrew(Crew crew, FlightInstance instance) {
         String key = crew.getAccount().getUsername();
-        crewScheduleMap.computeIfAbsent(key, k -> new ArrayList<>()).add(instance);
+        if (!crewSchedule.assign(key, instance)) {
+            System.out.println("Cannot assign " + crew.getName() + " to flight " + instance.getFlight().getFlightNo()
+                    + ": overlaps an existing duty or rest period");
+            return false;
+        }
         System.out.println("Assigned " + crew.getName() + " to flight " + instance.getFlight().getFlightNo());
         return true;
     }
 
+    public boolean unassignCrew(Crew crew, FlightInstance instance) {
+        return crewSchedule.unassign(crew.getAccount().getUsername(), instance);
+    }
+
     public static List<FlightInstance> getScheduleForCrew(String username) {
-        return crewScheduleMap.getOrDefault(username, new ArrayList<>());
+        return crewSchedule.getSchedule(username);
     }
 
     @Override
@@ -8,6 +8,7 @@ public class Aircraft {
     private String model;
     private int seatCapacity;
     private List<Seat> seats;
+    private volatile SeatLayout seatLayout;
 
     public Aircraft(String name, String code, String model, int seatCapacity, List<Seat> seats) {
         this.name = name;
@@ -30,5 +31,23 @@ public class Aircraft {
     public void setSeatCapacity(int seatCapacity) { this.seatCapacity = seatCapacity; }
 
     public List<Seat> getSeats() { return seats; }
-    public void setSeats(List<Seat> seats) { this.seats = seats; }
+    public void setSeats(List<Seat> seats) {
+        this.seats = seats;
+        this.seatLayout = null;
+    }
+
+    // Shared by every flight instance flown with this aircraft.
+    public SeatLayout getSeatLayout() {
+        SeatLayout layout = seatLayout;
+        if (layout == null) {
+            synchronized (this) {
+                layout = seatLayout;
+                if (layout == null) {
+                    layout = new SeatLayout(seats);
+                    seatLayout = layout;
+                }
+            }
+        }
+        return layout;
+    }
 }
@@ -1,30 +1,48 @@
 package educative.AirLineManagement;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Airline {
     private String name;
     private String code;
-    private List<Flight> flights;
-    private List<Aircraft> aircrafts;
-    private List<Crew> crew;
+    private final Map<String, Flight> flightsByNo;
+    private final Map<String, Aircraft> aircraftByCode;
+    private final Map<String, Crew> crewByUsername;
+    private final Map<String, Set<Flight>> flightsByDeparture;
+    private final Map<LocalDate, Set<FlightInstance>> instancesByDate;
+    // The date each instance is filed under, so a delay past midnight can move it and unindexing finds it.
+    private final Map<FlightInstance, LocalDate> indexedOn;
 
-    private static Airline airline = null;
+    // Reads go straight to the concurrent indexes. Flight-level writes touch several of them and are serialized;
+    // instance-level writes only lock their own flight, so loaders and bookers on different flights run in parallel.
+    // Lock order is writeLock, then the flight.
+    private final Object writeLock = new Object();
+
+    private static class Holder {
+        private static final Airline INSTANCE = new Airline();
+    }
 
     private Airline() {
         this.name = "Default Airline";
         this.code = "DEF";
-        this.flights = new ArrayList<>();
-        this.aircrafts = new ArrayList<>();
-        this.crew = new ArrayList<>();
+        this.flightsByNo = new ConcurrentHashMap<>();
+        this.aircraftByCode = new ConcurrentHashMap<>();
+        this.crewByUsername = new ConcurrentHashMap<>();
+        this.flightsByDeparture = new ConcurrentHashMap<>();
+        this.instancesByDate = new ConcurrentHashMap<>();
+        this.indexedOn = new ConcurrentHashMap<>();
     }
 
     public static Airline getInstance() {
-        if (airline == null) {
-            airline = new Airline();
-        }
-        return airline;
+        return Holder.INSTANCE;
     }
 
     public String getName() { return name; }
@@ -33,19 +51,132 @@ public class Airline {
     public String getCode() { return code; }
     public void setCode(String code) { this.code = code; }
 
-    public List<Flight> getFlights() { return flights; }
-    public List<Aircraft> getAircrafts() { return aircrafts; }
-    public List<Crew> getCrew() { return crew; }
+    public List<Flight> getFlights() { return new ArrayList<>(flightsByNo.values()); }
+    public List<Aircraft> getAircrafts() { return new ArrayList<>(aircraftByCode.values()); }
+    public List<Crew> getCrew() { return new ArrayList<>(crewByUsername.values()); }
+
+    public Flight getFlight(String flightNo) { return flightsByNo.get(flightNo); }
+    public Aircraft getAircraft(String code) { return aircraftByCode.get(code); }
+    public Crew getCrewMember(String username) { return crewByUsername.get(username); }
+
+    public Set<Flight> getFlightsFrom(Airport departure) {
+        Set<Flight> flights = flightsByDeparture.get(departure.getCode());
+        return flights == null ? Collections.emptySet() : Collections.unmodifiableSet(flights);
+    }
+
+    public Set<FlightInstance> getInstancesOn(LocalDate date) {
+        Set<FlightInstance> instances = instancesByDate.get(date);
+        return instances == null ? Collections.emptySet() : Collections.unmodifiableSet(instances);
+    }
 
     public void addFlight(Flight flight) {
-        flights.add(flight);
+        synchronized (writeLock) {
+            Flight previous = flightsByNo.put(flight.getFlightNo(), flight);
+            if (previous != null && previous != flight) {
+                synchronized (previous) {
+                    unindex(previous);
+                }
+            }
+            flightsByDeparture.computeIfAbsent(flight.getDeparture().getCode(), k -> ConcurrentHashMap.newKeySet()).add(flight);
+            synchronized (flight) {
+                if (flight.getInstances() != null) {
+                    for (FlightInstance instance : flight.getInstances()) {
+                        indexInstance(instance);
+                    }
+                }
+            }
+        }
+    }
+
+    // Appends the instance to its flight; bulk loaders call this once per instance.
+    // A flight built without an instance list gets one here, under the same lock the indexers read it by.
+    public void addFlightInstance(FlightInstance instance) {
+        Flight flight = instance.getFlight();
+        synchronized (flight) {
+            if (flight.getInstances() == null) {
+                flight.setInstances(new ArrayList<>());
+            }
+            flight.getInstances().add(instance);
+            if (flightsByNo.get(flight.getFlightNo()) == flight) {
+                indexInstance(instance);
+            }
+        }
+    }
+
+    // Canceled instances stay on the flight for existing reservations but drop out of every lookup.
+    public boolean cancelFlight(Flight flight) {
+        synchronized (writeLock) {
+            if (!flightsByNo.remove(flight.getFlightNo(), flight)) {
+                return false;
+            }
+            synchronized (flight) {
+                unindex(flight);
+                if (flight.getInstances() != null) {
+                    for (FlightInstance instance : flight.getInstances()) {
+                        instance.setStatus(FlightStatus.CANCELED);
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    public boolean cancelFlightInstance(FlightInstance instance) {
+        synchronized (instance.getFlight()) {
+            instance.setStatus(FlightStatus.CANCELED);
+            return unindexInstance(instance);
+        }
+    }
+
+    // Called after a departure time changes; instances that are not indexed, e.g. canceled ones, are left alone.
+    public void reindexInstance(FlightInstance instance) {
+        synchronized (instance.getFlight()) {
+            LocalDate previous = indexedOn.get(instance);
+            LocalDate current = dateOf(instance.getDepartureTime());
+            if (previous == null || previous.equals(current)) {
+                return;
+            }
+            Set<FlightInstance> sameDay = instancesByDate.get(previous);
+            if (sameDay != null) {
+                sameDay.remove(instance);
+            }
+            indexInstance(instance);
+        }
     }
 
     public void addAircraft(Aircraft aircraft) {
-        aircrafts.add(aircraft);
+        aircraftByCode.put(aircraft.getCode(), aircraft);
     }
 
     public void addCrew(Crew crewMember) {
-        crew.add(crewMember);
+        crewByUsername.put(crewMember.getAccount().getUsername(), crewMember);
+    }
+
+    private void unindex(Flight flight) {
+        Set<Flight> departures = flightsByDeparture.get(flight.getDeparture().getCode());
+        if (departures != null) {
+            departures.remove(flight);
+        }
+        if (flight.getInstances() != null) {
+            for (FlightInstance instance : flight.getInstances()) {
+                unindexInstance(instance);
+            }
+        }
+    }
+
+    private void indexInstance(FlightInstance instance) {
+        LocalDate date = dateOf(instance.getDepartureTime());
+        indexedOn.put(instance, date);
+        instancesByDate.computeIfAbsent(date, k -> ConcurrentHashMap.newKeySet()).add(instance);
+    }
+
+    private boolean unindexInstance(FlightInstance instance) {
+        LocalDate date = indexedOn.remove(instance);
+        Set<FlightInstance> sameDay = date == null ? null : instancesByDate.get(date);
+        return sameDay != null && sameDay.remove(instance);
+    }
+
+    private static LocalDate dateOf(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
     }
 }
@@ -1,5 +1,6 @@
 package educative.AirLineManagement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class Airport {
@@ -7,6 +8,8 @@ public class Airport {
     private String code;
     private Address address;
     private List<Flight> flights;
+    private List<String> gates = new ArrayList<>();
+    private volatile GateAllocator gateAllocator;
 
     public Airport(String name, String code, Address address, List<Flight> flights) {
         this.name = name;
@@ -26,4 +29,19 @@ public class Airport {
 
     public List<Flight> getFlights() { return flights; }
     public void setFlights(List<Flight> flights) { this.flights = flights; }
+
+    public List<String> getGates() { return gates; }
+
+    // Replaces the gate allocator; the new one follows the status of each departure it places, so delays
+    // re-plan their gate.
+    public synchronized void setGates(List<String> gates, int boardingMinutes, int bufferMinutes) {
+        GateAllocator previous = gateAllocator;
+        if (previous != null) {
+            previous.releaseAll();
+        }
+        this.gates = new ArrayList<>(gates);
+        this.gateAllocator = new GateAllocator(this, gates, boardingMinutes, bufferMinutes);
+    }
+
+    public GateAllocator getGateAllocator() { return gateAllocator; }
 }
\ No newline at end of file
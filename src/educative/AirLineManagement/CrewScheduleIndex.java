@@ -0,0 +1,163 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-crew duty timeline. Accepted duties never overlap (including the rest window), so a
+// start-ordered tree is enough to answer "does this duty clash" from its two neighbours in O(log n).
+// Assigned instances are followed on the FlightStatusBus so a cancellation frees its crew's duty.
+public class CrewScheduleIndex implements FlightStatusListener {
+    private final long minRestMillis;
+    private final Map<String, CrewTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<FlightInstance, Set<String>> crewByInstance = new ConcurrentHashMap<>();
+
+    public CrewScheduleIndex(int minRestMinutes) {
+        this.minRestMillis = minRestMinutes * 60_000L;
+    }
+
+    public boolean assign(String username, FlightInstance instance) {
+        if (!timelines.computeIfAbsent(username, k -> new CrewTimeline()).add(instance, minRestMillis)) {
+            return false;
+        }
+        crewByInstance.compute(instance, (k, crew) -> {
+            if (crew == null) {
+                crew = ConcurrentHashMap.newKeySet();
+                FlightStatusBus.getInstance().subscribe(instance, this);
+            }
+            crew.add(username);
+            return crew;
+        });
+        return true;
+    }
+
+    public boolean unassign(String username, FlightInstance instance) {
+        CrewTimeline timeline = timelines.get(username);
+        if (timeline == null || !timeline.remove(instance)) {
+            return false;
+        }
+        crewByInstance.computeIfPresent(instance, (k, crew) -> {
+            crew.remove(username);
+            if (crew.isEmpty()) {
+                FlightStatusBus.getInstance().unsubscribe(instance, this);
+                return null;
+            }
+            return crew;
+        });
+        return true;
+    }
+
+    // Cancellations free the duty; a delay moves it, and crew whose rest rules it now breaks are taken off.
+    @Override
+    public void onStatusChange(FlightStatusEvent event) {
+        FlightInstance instance = event.getInstance();
+        Set<String> crew = crewByInstance.get(instance);
+        if (crew == null) {
+            return;
+        }
+        for (String username : crew) {
+            CrewTimeline timeline = timelines.get(username);
+            if (event.getStatus() == FlightStatus.CANCELED || timeline == null) {
+                unassign(username, instance);
+            } else if (!timeline.reschedule(instance, minRestMillis)) {
+                System.out.println("Crew " + username + " needs replacing on flight " + instance.getFlight().getFlightNo()
+                        + ": the delay breaks their rest period");
+                unassign(username, instance);
+            }
+        }
+    }
+
+    public boolean isAvailable(String username, FlightInstance instance) {
+        CrewTimeline timeline = timelines.get(username);
+        long start = start(instance);
+        return timeline == null || timeline.fits(start, end(instance, start), minRestMillis);
+    }
+
+    public List<FlightInstance> getSchedule(String username) {
+        CrewTimeline timeline = timelines.get(username);
+        return timeline == null ? Collections.emptyList() : timeline.snapshot();
+    }
+
+    private static long start(FlightInstance instance) {
+        return instance.getDepartureTime().getTime();
+    }
+
+    private static long end(FlightInstance instance, long start) {
+        return start + instance.getFlight().getDurationMin() * 60_000L;
+    }
+
+    // Locked per crew member, so admins rostering different crew never contend.
+    // Each duty keeps the times it was keyed under, and every clash check reads those rather than the
+    // instance's live departure, so a delay not yet re-keyed cannot make the tree disagree with itself.
+    // The delay event re-keys the duty, which is the only way its times change.
+    private static class CrewTimeline {
+        private final TreeMap<Long, Duty> byStart = new TreeMap<>();
+        private final Map<FlightInstance, Duty> dutyOf = new HashMap<>();
+
+        synchronized boolean add(FlightInstance instance, long minRestMillis) {
+            Duty duty = new Duty(instance);
+            if (dutyOf.containsKey(instance) || !fits(duty.start, duty.end, minRestMillis)) {
+                return false;
+            }
+            byStart.put(duty.start, duty);
+            dutyOf.put(instance, duty);
+            return true;
+        }
+
+        synchronized boolean remove(FlightInstance instance) {
+            Duty duty = dutyOf.remove(instance);
+            return duty != null && byStart.remove(duty.start, duty);
+        }
+
+        // Re-keys the duty at its current times; false (leaving the old entry) if it no longer fits.
+        synchronized boolean reschedule(FlightInstance instance, long minRestMillis) {
+            Duty previous = dutyOf.get(instance);
+            if (previous == null || previous.start == start(instance)) {
+                return true;
+            }
+            byStart.remove(previous.start, previous);
+            dutyOf.remove(instance);
+            if (add(instance, minRestMillis)) {
+                return true;
+            }
+            byStart.put(previous.start, previous);
+            dutyOf.put(instance, previous);
+            return false;
+        }
+
+        synchronized boolean fits(long start, long end, long minRestMillis) {
+            Map.Entry<Long, Duty> before = byStart.floorEntry(start);
+            if (before != null && before.getValue().end + minRestMillis > start) {
+                return false;
+            }
+            Map.Entry<Long, Duty> after = byStart.ceilingEntry(start);
+            return after == null || end + minRestMillis <= after.getKey();
+        }
+
+        synchronized List<FlightInstance> snapshot() {
+            List<FlightInstance> instances = new ArrayList<>(byStart.size());
+            for (Duty duty : byStart.values()) {
+                instances.add(duty.instance);
+            }
+            return Collections.unmodifiableList(instances);
+        }
+    }
+
+    private static final class Duty {
+        final FlightInstance instance;
+        final long start;
+        final long end;
+
+        Duty(FlightInstance instance) {
+            this.instance = instance;
+            // One read of the departure, so start and end come from the same delay
+            this.start = start(instance);
+            this.end = end(instance, start);
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package educative.AirLineManagement;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.LockSupport;
 
 public class Driver {
 
@@ -41,11 +50,7 @@ public class Driver {
 
         // Flight and flight instance
         Flight flight = new Flight("FL123", 120, airport1, airport2, new ArrayList<>());
-        FlightInstance flightInstance = new FlightInstance(flight, new Date(), "G5", FlightStatus.SCHEDULED, aircraft, new ArrayList<>());
-
-        for (Seat seat : aircraftSeats) {
-            flightInstance.getSeats().add(new FlightSeat(seat.getSeatNumber(), seat.getType(), seat.getSeatClass(), 150.0));
-        }
+        FlightInstance flightInstance = new FlightInstance(flight, new Date(), "G5", FlightStatus.SCHEDULED, aircraft, 150.0);
         flight.getInstances().add(flightInstance);
         admin.addFlight(flight);
         System.out.println("Initial flight created and flight instance added.");
@@ -57,14 +62,27 @@ public class Driver {
         System.out.println("== Scenario 1: Customer books and pays ==");
 
         Passenger p1 = new Passenger(1, "Jane Doe", "Female", createDate(1990, 5, 5), "P12345");
-        FlightSeat selectedSeat = flightInstance.getSeats().get(0);
-        selectedSeat.setStatus(SeatStatus.BOOKED);
-        selectedSeat.setReservationNumber("RESV001");
+        double fare = flightInstance.quoteFare(SeatClass.ECONOMY);
+        SeatHold hold = flightInstance.holdSeat(SeatClass.ECONOMY, SeatType.REGULAR, 10 * 60 * 1000);
+        FlightSeat selectedSeat = hold.getSeat();
+        System.out.println("Seat " + selectedSeat.getSeatNumber() + " held at $" + fare + ", " +
+                flightInstance.getSeatMap().countAvailable(SeatClass.ECONOMY) + " economy seats left.");
+
+        CreditCard card = new CreditCard(1, fare, "Jane Doe", "4111111111111111");
+        if (customer.makePayment(card) && flightInstance.confirmHold(hold, "RESV001")) {
+            System.out.println("Seat " + selectedSeat.getSeatNumber() + " is now " + selectedSeat.getStatus()
+                    + ", next economy fare $" + flightInstance.quoteFare(SeatClass.ECONOMY));
+        } else {
+            flightInstance.releaseHold(hold);
+        }
 
         HashMap<Passenger, FlightSeat> seatMap = new HashMap<>();
         seatMap.put(p1, selectedSeat);
 
         FlightReservation reservation = new FlightReservation("RESV001", flightInstance, seatMap, ReservationStatus.CONFIRMED, new Date());
+        ReservationStore.getInstance().save(reservation);
+        FlightReservation fetched = FlightReservation.fetchReservationDetails("RESV001");
+        System.out.println("Found reservation " + fetched.getReservationNumber() + " for " + fetched.getPassengers().get(0).getName());
 
         List<FlightReservation> reservations = new ArrayList<>();
         reservations.add(reservation);
@@ -74,8 +92,12 @@ public class Driver {
         Itinerary itinerary = new Itinerary(airport1, airport2, new Date(), reservations, passengers);
         itinerary.makeReservation();
 
-        CreditCard card = new CreditCard(1, selectedSeat.getFare(), "Jane Doe", "4111111111111111");
-        customer.makePayment(card);
+        // An abandoned checkout: the hold lapses and the seat returns to the pool.
+        SeatHold abandoned = flightInstance.holdSeat(SeatClass.ECONOMY, SeatType.REGULAR, 200);
+        System.out.println("Seat " + abandoned.getSeat().getSeatNumber() + " held without payment.");
+        sleep(500);
+        System.out.println("After expiry seat " + abandoned.getSeat().getSeatNumber() + " is " + abandoned.getSeat().getStatus() + ", " +
+                flightInstance.getSeatMap().countAvailable(SeatClass.ECONOMY) + " economy seats left.");
 
         System.out.println();
 
@@ -91,6 +113,15 @@ public class Driver {
 
         admin.addFlight(newFlight);
         admin.assignCrew(crew, newInstance);
+        admin.assignCrew(crew, flightInstance);
+
+        // A charter registered before it has any departures gets its instance list on the first one
+        Flight charter = new Flight("FL457", 120, airport2, airport1, null);
+        admin.addFlight(charter);
+        Airline.getInstance().addFlightInstance(new FlightInstance(charter, new Date(), "H3", FlightStatus.SCHEDULED, newAircraft, 150.0));
+        System.out.println("Charter " + charter.getFlightNo() + " instances: " + charter.getInstances().size());
+        System.out.println("Flights departing " + airport2.getCode() + ": " + Airline.getInstance().getFlightsFrom(airport2).size() +
+                ", aircraft A320 registered: " + (Airline.getInstance().getAircraft("A320") != null));
 
         System.out.println();
 
@@ -101,6 +132,471 @@ public class Driver {
         for (FlightInstance fi : crewSchedule) {
             System.out.println("Assigned to Flight " + fi.getFlight().getFlightNo() + " at Gate " + fi.getGate());
         }
+
+        System.out.println();
+
+        // ========= Scenario 4 =========
+        System.out.println("== Scenario 4: Route search between airports ==");
+
+        RoutePlanner planner = new RoutePlanner(Airline.getInstance().getFlights());
+        Date searchFrom = new Date(System.currentTimeMillis() - 60 * 60 * 1000);
+        Route fastest = planner.findRoute(airport1, airport2, searchFrom, RouteCriteria.FASTEST, 2);
+        System.out.println("Fastest ALP -> BET: " + (fastest == null ? "no route" : fastest));
+        Route back = planner.findRoute(airport2, airport1, searchFrom, RouteCriteria.CHEAPEST, 2);
+        // FL456 was set up without seats, so it has no fare and is not offered
+        System.out.println("Cheapest BET -> ALP: " + (back == null ? "no route" : back));
+
+        System.out.println();
+
+        // ========= Scenario 5 =========
+        System.out.println("== Scenario 5: Concurrent booking on a 400-seat aircraft ==");
+        runBookingStress(airport1, airport2);
+
+        System.out.println();
+
+        // ========= Scenario 6 =========
+        System.out.println("== Scenario 6: Reservation journal survives a restart ==");
+        replayReservationJournal(reservation);
+
+        System.out.println();
+
+        // ========= Scenario 7 =========
+        System.out.println("== Scenario 7: Bulk schedule import ==");
+        importSchedule(airport1, airport2);
+
+        System.out.println();
+
+        // ========= Scenario 8 =========
+        System.out.println("== Scenario 8: Overbooking and waitlist promotion ==");
+        runWaitlist(airport1, airport2, customerAccount);
+
+        System.out.println();
+
+        // ========= Scenario 9 =========
+        System.out.println("== Scenario 9: Delay storm on the flight status bus ==");
+        runDelayStorm(airport1, airport2, aircraft, reservation, customerAccount, admin, crew);
+
+        System.out.println();
+
+        // ========= Scenario 10 =========
+        System.out.println("== Scenario 10: Two-phase itinerary booking ==");
+        runItineraries(airport1, airport2, aircraft);
+
+        System.out.println();
+
+        // ========= Scenario 11 =========
+        System.out.println("== Scenario 11: Gate allocation with a delay ==");
+        runGateAllocation(airport1, airport2, aircraft);
+
+        // Flush pending notifications before the JVM exits.
+        try {
+            NotificationDispatcher.getInstance().shutdown(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        NotificationDispatcher.getInstance().getStats()
+                .forEach((channel, stats) -> System.out.println("Notifications via " + channel + ": " + stats));
+    }
+
+    // Many threads race for every seat of a full aircraft; each seat must end up with exactly one winner.
+    private static void runBookingStress(Airport from, Airport to) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            SeatClass seatClass = i < 16 ? SeatClass.FIRST_CLASS : i < 56 ? SeatClass.BUSINESS
+                    : i < 100 ? SeatClass.ECONOMY_PLUS : SeatClass.ECONOMY;
+            SeatType type = i % 50 == 0 ? SeatType.EMERGENCY_EXIT : i % 7 == 0 ? SeatType.EXTRA_LEG_ROOM : SeatType.REGULAR;
+            seats.add(new Seat("S" + i, type, seatClass));
+        }
+        Aircraft widebody = new Aircraft("Boeing 777", "B777", "777-300ER", seats.size(), seats);
+        Flight flight = new Flight("FL777", 600, from, to, new ArrayList<>());
+        List<FlightSeat> flightSeats = new ArrayList<>();
+        for (Seat seat : seats) {
+            flightSeats.add(new FlightSeat(seat.getSeatNumber(), seat.getType(), seat.getSeatClass(), 300.0));
+        }
+        FlightInstance instance = new FlightInstance(flight, new Date(), "A1", FlightStatus.SCHEDULED, widebody, flightSeats);
+
+        int threads = 256;
+        AtomicIntegerArray wins = new AtomicIntegerArray(seats.size());
+        AtomicInteger booked = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        SeatClass[] classes = SeatClass.values();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int attempt = 0;
+                int misses = 0;
+                while (misses < classes.length) {
+                    SeatClass seatClass = classes[(id + attempt) % classes.length];
+                    FlightSeat seat = instance.bookSeat(seatClass, null, "T" + id + "-" + attempt++);
+                    if (seat == null) {
+                        misses++;
+                        continue;
+                    }
+                    misses = 0;
+                    wins.incrementAndGet(instance.getSeatMap().indexOf(seat.getSeatNumber()));
+                    booked.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int doubleBooked = 0;
+        int unbooked = 0;
+        for (int i = 0; i < wins.length(); i++) {
+            if (wins.get(i) > 1) doubleBooked++;
+            if (wins.get(i) == 0) unbooked++;
+        }
+        System.out.println(threads + " threads booked " + booked.get() + "/" + seats.size() + " seats, double bookings: "
+                + doubleBooked + ", unbooked seats: " + unbooked);
+        if (doubleBooked != 0 || unbooked != 0 || booked.get() != seats.size()) {
+            throw new IllegalStateException("Seat inventory corrupted under concurrent booking");
+        }
+    }
+
+    // A sold-out, overbooked cabin loses seats to concurrent cancellations; oversold tickets are seated first,
+    // then the waitlist in loyalty order, and no freed seat is left empty while someone is waiting.
+    private static void runWaitlist(Airport from, Airport to, Account account) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            seats.add(new Seat("W" + i, SeatType.REGULAR, SeatClass.ECONOMY));
+        }
+        Aircraft regional = new Aircraft("Embraer 175", "E175", "175-LR", seats.size(), seats);
+        Flight flight = new Flight("FL175", 90, from, to, new ArrayList<>());
+        FlightInstance instance = new FlightInstance(flight, new Date(), "C3", FlightStatus.SCHEDULED, regional, 120.0);
+        instance.setOverbookingPolicy(new OverbookingPolicy().setRatio(SeatClass.ECONOMY, 1.1));
+
+        List<SeatRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            Passenger passenger = new Passenger(1000 + i, "Passenger " + i, "Female", createDate(1985, 1, 1), "WL" + i);
+            requests.add(instance.requestSeat(passenger, i == 23 ? account : null, SeatClass.ECONOMY, i % 4, "WL-" + i));
+        }
+        Map<SeatRequestStatus, Integer> counts = new EnumMap<>(SeatRequestStatus.class);
+        for (SeatRequest request : requests) {
+            counts.merge(request.getStatus(), 1, Integer::sum);
+        }
+        System.out.println("After selling 32 tickets on 20 seats: " + counts);
+
+        List<SeatRequest> waitlisted = new ArrayList<>();
+        for (SeatRequest request : requests) {
+            if (request.getStatus() == SeatRequestStatus.WAITLISTED) waitlisted.add(request);
+        }
+        instance.getWaitlist().cancel(waitlisted.remove(waitlisted.size() - 1));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        // Every cancel is sent twice; the duplicate must not free the seat once a waitlisted passenger has it
+        for (int i = 0; i < 12; i++) {
+            SeatRequest cancelled = requests.get(i % 6);
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                instance.releaseSeat(cancelled.getSeat(), cancelled.getReservationNumber());
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Set<String> seated = new HashSet<>();
+        int seatedCount = 0;
+        for (int i = 6; i < requests.size(); i++) {
+            SeatRequest request = requests.get(i);
+            if (request.getStatus() == SeatRequestStatus.SEATED) {
+                seatedCount++;
+                seated.add(request.getSeat().getSeatNumber());
+            }
+        }
+        System.out.println("6 cancellations, now seated: " + seatedCount + " on " + seated.size() + " distinct seats, still waiting: "
+                + instance.getWaitlist().size(SeatClass.ECONOMY));
+        StringBuilder promoted = new StringBuilder();
+        for (SeatRequest request : waitlisted) {
+            if (request.getStatus() == SeatRequestStatus.SEATED) {
+                promoted.append(request.getPassenger().getName()).append(" (tier ").append(request.getLoyaltyTier()).append(") ");
+            }
+        }
+        System.out.println("Promoted from waitlist: " + promoted.toString().trim());
+        if (seatedCount != 20 || seated.size() != 20 || instance.getSeatMap().countAvailable(SeatClass.ECONOMY) != 0) {
+            throw new IllegalStateException("Freed seats were not handed to the waitlist");
+        }
+
+        // Canceling the instance withdraws everyone still queued; nobody may be left waiting on a canceled flight
+        List<SeatRequest> queued = new ArrayList<>();
+        for (SeatRequest request : requests) {
+            if (request.getStatus() == SeatRequestStatus.WAITLISTED || request.getStatus() == SeatRequestStatus.OVERSOLD) {
+                queued.add(request);
+            }
+        }
+        Airline.getInstance().cancelFlightInstance(instance);
+        int withdrawn = 0;
+        for (SeatRequest request : queued) {
+            if (request.getStatus() == SeatRequestStatus.CANCELED) withdrawn++;
+        }
+        SeatRequest late = instance.requestSeat(new Passenger(1100, "Late Passenger", "Male", createDate(1990, 1, 1), "WL-late"),
+                null, SeatClass.ECONOMY, 3, "WL-late");
+        System.out.println("Instance canceled: " + withdrawn + " of " + queued.size() + " queued requests withdrawn, still waiting: "
+                + instance.getWaitlist().size(SeatClass.ECONOMY) + ", request after cancel: " + late.getStatus());
+        if (withdrawn != queued.size() || instance.getWaitlist().size(SeatClass.ECONOMY) != 0
+                || late.getStatus() != SeatRequestStatus.CANCELED) {
+            throw new IllegalStateException("Canceled instance left requests on its waitlist");
+        }
+    }
+
+    // Thousands of instances change state within seconds while a deliberately slow listener follows them all.
+    // Publishers must not wait for it, and once the storm passes it must know every instance's final status.
+    private static void runDelayStorm(Airport from, Airport to, Aircraft aircraft, FlightReservation reservation,
+                                      Account contact, Admin admin, Crew crew) {
+        Itinerary itinerary = new Itinerary(from, to, new Date(), Collections.singletonList(reservation), new ArrayList<>());
+        itinerary.followFlights(contact);
+
+        Flight flight = new Flight("FL500", 60, from, to, new ArrayList<>());
+        List<FlightInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            instances.add(new FlightInstance(flight, new Date(System.currentTimeMillis() + i * 60_000L), "D" + (i % 40),
+                    FlightStatus.SCHEDULED, aircraft, 90.0));
+        }
+        FlightInstance crewed = new FlightInstance(flight, new Date(System.currentTimeMillis() + 90L * 24 * 3600 * 1000), "D1",
+                FlightStatus.SCHEDULED, aircraft, 90.0);
+        admin.assignCrew(crew, crewed);
+
+        Map<FlightInstance, FlightStatus> lastSeen = new ConcurrentHashMap<>();
+        FlightStatusListener slowBoard = event -> {
+            lastSeen.put(event.getInstance(), event.getStatus());
+            LockSupport.parkNanos(20_000);
+        };
+        FlightStatusBus bus = FlightStatusBus.getInstance();
+        bus.subscribeAll(slowBoard);
+
+        FlightStatus[] storm = {FlightStatus.DELAYED, FlightStatus.ACTIVE, FlightStatus.DELAYED, FlightStatus.DEPARTED};
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        long started = System.nanoTime();
+        for (int t = 0; t < 8; t++) {
+            final int offset = t;
+            pool.execute(() -> {
+                for (FlightStatus status : storm) {
+                    for (int i = offset; i < instances.size(); i += 8) {
+                        instances.get(i).setStatus(status);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+            long publishMillis = (System.nanoTime() - started) / 1_000_000;
+            reservation.getFlight().setStatus(FlightStatus.DELAYED);
+            crewed.setStatus(FlightStatus.CANCELED);
+            boolean drained = bus.awaitDelivered(30, TimeUnit.SECONDS);
+            System.out.println("Published " + instances.size() * storm.length + " changes in " + publishMillis + " ms; drained: " + drained);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        bus.unsubscribeAll(slowBoard);
+        itinerary.unfollowFlights();
+
+        int stale = 0;
+        for (FlightInstance instance : instances) {
+            if (lastSeen.get(instance) != FlightStatus.DEPARTED) stale++;
+        }
+        System.out.println("Bus " + bus.getStats() + "; stale statuses on the slow board: " + stale
+                + "; crew still on canceled flight: " + crew.viewSchedule().contains(crewed));
+        if (stale != 0 || crew.viewSchedule().contains(crewed)) {
+            throw new IllegalStateException("Status subscribers missed the final state");
+        }
+
+        // Two duties 12 hours apart leave exactly the 10-hour rest after the first; delaying it by two hours
+        // re-keys it on the delay event, which finds the rest broken and takes the crew off it
+        long day = System.currentTimeMillis() + 120L * 24 * 3600 * 1000;
+        FlightInstance first = new FlightInstance(flight, new Date(day), "D2", FlightStatus.SCHEDULED, aircraft, 90.0);
+        FlightInstance second = new FlightInstance(flight, new Date(day + 12 * 3600_000L), "D3", FlightStatus.SCHEDULED, aircraft, 90.0);
+        admin.assignCrew(crew, first);
+        admin.assignCrew(crew, second);
+        first.delayTo(new Date(day + 2 * 3600_000L));
+        try {
+            bus.awaitDelivered(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        FlightInstance filler = new FlightInstance(flight, new Date(day), "D4", FlightStatus.SCHEDULED, aircraft, 90.0);
+        boolean fillerTaken = admin.assignCrew(crew, filler);
+        System.out.println("After the delay the crew flies the second duty: " + crew.viewSchedule().contains(second)
+                + ", the delayed first: " + crew.viewSchedule().contains(first) + ", a duty in its old slot: " + fillerTaken);
+        if (crew.viewSchedule().contains(first) || !crew.viewSchedule().contains(second)) {
+            throw new IllegalStateException("A delay that breaks the rest period left the crew on both duties");
+        }
+    }
+
+    // Itineraries booked from several threads race for a few seats; each one gets every leg or none.
+    private static void runItineraries(Airport from, Airport to, Aircraft aircraft) {
+        ItineraryBooker booker = new ItineraryBooker();
+        long day = 24 * 3600 * 1000L;
+        Flight outbound = new Flight("FL610", 120, from, to, new ArrayList<>());
+        Flight inbound = new Flight("FL611", 120, to, from, new ArrayList<>());
+        List<FlightInstance> legs = Arrays.asList(
+                new FlightInstance(outbound, new Date(System.currentTimeMillis() + day), "E1", FlightStatus.SCHEDULED, aircraft, 110.0),
+                new FlightInstance(inbound, new Date(System.currentTimeMillis() + 3 * day), "E2", FlightStatus.SCHEDULED, aircraft, 110.0),
+                new FlightInstance(outbound, new Date(System.currentTimeMillis() + 5 * day), "E3", FlightStatus.SCHEDULED, aircraft, 110.0));
+        // One seat on the last leg is already gone, so it runs out first and forces aborts on the other two.
+        legs.get(2).bookSeat(SeatClass.ECONOMY, null, "WALKUP");
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<List<FlightSeat>>> bookings = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String reservationNumber = "IT-" + i;
+            bookings.add(pool.submit(() -> booker.bookItinerary(legs, SeatClass.ECONOMY, reservationNumber)));
+        }
+        int confirmed = 0;
+        try {
+            for (Future<List<FlightSeat>> booking : bookings) {
+                if (booking.get() != null) confirmed++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        int[] booked = new int[legs.size()];
+        for (int l = 0; l < legs.size(); l++) {
+            booked[l] = legs.get(l).getSeatMap().size() - legs.get(l).getSeatMap().countAvailable(SeatClass.ECONOMY);
+        }
+        System.out.println("40 itineraries from 4 threads: " + confirmed + " confirmed; seats booked per leg " + Arrays.toString(booked));
+        if (confirmed != 9 || booked[0] != 9 || booked[1] != 9 || booked[2] != 10) {
+            throw new IllegalStateException("Itinerary booking left partial reservations");
+        }
+    }
+
+    // Three departures share two gates; a delay pushes one into a gap and the other plans stay put.
+    private static void runGateAllocation(Airport hub, Airport destination, Aircraft aircraft) {
+        hub.setGates(Arrays.asList("A1", "A2"), 40, 15);
+        long base = System.currentTimeMillis() + 6 * 3600 * 1000L;
+        List<FlightInstance> departures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Flight flight = new Flight("FL7" + i, 60, hub, destination, new ArrayList<>());
+            long offset = new long[] {0, 30, 60, 180}[i] * 60_000L;
+            departures.add(new FlightInstance(flight, new Date(base + offset), null, FlightStatus.SCHEDULED, aircraft, 99.0));
+        }
+        GateAllocator allocator = hub.getGateAllocator();
+        allocator.planDay(departures);
+        StringBuilder plan = new StringBuilder();
+        for (FlightInstance departure : departures) {
+            plan.append(departure.getFlight().getFlightNo()).append("@").append(departure.getGate()).append(" ");
+        }
+        System.out.println("Initial plan: " + plan.toString().trim());
+
+        String before = departures.get(3).getGate();
+        departures.get(2).delayTo(new Date(base + 100 * 60_000L));
+        try {
+            FlightStatusBus.getInstance().awaitDelivered(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("After delaying " + departures.get(2).getFlight().getFlightNo() + " by 40 minutes it departs from "
+                + departures.get(2).getGate() + "; " + departures.get(3).getFlight().getFlightNo() + " stays at " + departures.get(3).getGate());
+        if (!before.equals(departures.get(3).getGate()) || GateAllocator.REMOTE_STAND.equals(departures.get(2).getGate())) {
+            throw new IllegalStateException("Delay re-plan disturbed other departures");
+        }
+    }
+
+    // A crash can persist a record's length but not all of its payload; the checksum drops such a torn tail on open
+    private static void replayReservationJournal(FlightReservation reservation) {
+        try {
+            Path journalFile = Files.createTempFile("reservations", ".journal");
+            ReservationStore store = new ReservationStore(journalFile);
+            store.save(reservation);
+            store.save(reservation);
+            store.close();
+            tearLastRecord(journalFile);
+
+            ReservationStore restarted = new ReservationStore();
+            int replayed = restarted.attachJournal(journalFile);
+            FlightReservation recovered = restarted.find(reservation.getReservationNumber());
+            System.out.println("Replayed " + replayed + " of 2 record(s) after tearing the last; " + recovered.getReservationNumber()
+                    + " on flight " + recovered.getFlight().getFlight().getFlightNo() + " seat "
+                    + recovered.getSeatMap().values().iterator().next().getSeatNumber());
+            // The next save overwrites the torn tail
+            restarted.save(recovered);
+            restarted.close();
+            ReservationStore reopened = new ReservationStore();
+            int afterResave = reopened.attachJournal(journalFile);
+            reopened.close();
+            Files.deleteIfExists(journalFile);
+            if (replayed != 1 || afterResave != 2) {
+                throw new IllegalStateException("Torn journal record was replayed or not overwritten");
+            }
+        } catch (IOException e) {
+            System.out.println("Journal demo failed: " + e.getMessage());
+        }
+    }
+
+    // Flips a byte in the second record's payload, as a crash between page write-backs could leave it.
+    // Records are laid out as length, checksum, payload.
+    private static void tearLastRecord(Path journalFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, 0);
+            long secondPayload = 2L * Integer.BYTES + length.getInt(0) + 2L * Integer.BYTES;
+            ByteBuffer payloadByte = ByteBuffer.allocate(1);
+            channel.read(payloadByte, secondPayload);
+            payloadByte.put(0, (byte) ~payloadByte.get(0));
+            payloadByte.rewind();
+            channel.write(payloadByte, secondPayload);
+        }
+    }
+
+    private static void importSchedule(Airport airport1, Airport airport2) {
+        Map<String, Airport> airports = new HashMap<>();
+        airports.put(airport1.getCode(), airport1);
+        airports.put(airport2.getCode(), airport2);
+        // An airport registered without a flight list gets one when its first departure is imported
+        Airport gamma = new Airport("Gamma Airport", "GAM", null, null);
+        airports.put(gamma.getCode(), gamma);
+        String csv = "flightNo,from,to,durationMin,departure,gate,aircraftCode,baseFare\n"
+                + "FL900,ALP,BET,95,2026-11-02T08:00:00Z,G1,B737,120.0\n"
+                + "FL900,ALP,BET,95,2026-11-03T08:00:00Z,G1,B737,120.0\n"
+                + "FL901,BET,GAM,60,2026-11-02T11:30:00Z,H4,B737,90.0\n"
+                + "FL902,GAM,ALP,70,2026-11-02T14:00:00Z,J1,B737,95.0\n";
+        try {
+            Path file = Files.createTempFile("schedule", ".csv");
+            Files.write(file, csv.getBytes());
+            long loaded = new ScheduleLoader(airports).load(file);
+            Files.deleteIfExists(file);
+            FlightInstance first = Airline.getInstance().getFlight("FL900").getInstances().get(0);
+            System.out.println("Imported " + loaded + " flight instances; FL900 has "
+                    + first.getSeatMap().countAvailable(SeatClass.ECONOMY) + " economy seats from the B737 template; "
+                    + gamma.getCode() + " departures: " + gamma.getFlights().size());
+        } catch (IOException e) {
+            System.out.println("Schedule import failed: " + e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     // Utility method to safely create a Date from year, month, day
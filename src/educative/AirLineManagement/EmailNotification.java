@@ -2,7 +2,7 @@ package educative.AirLineManagement;
 
 public class EmailNotification extends Notification {
 
-    public EmailNotification(int notificationId, String content) {
+    public EmailNotification(long notificationId, String content) {
         super(notificationId, content);
     }
 
@@ -0,0 +1,75 @@
+package educative.AirLineManagement;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Cached fares for one flight instance. Each cabin's quote stays valid until a seat in that
+// cabin changes state or the day rolls over, so a quote on the search path is two array reads.
+// A cached quote is one long: day (16 bits), cabin version (16 bits) and fare in cents (32 bits).
+// Invalidation bumps the version, so a fare computed before a seat change can never be served after it.
+public class FareCurve {
+    private static final long DAY_MS = 24 * 60 * 60 * 1000L;
+
+    private final FlightInstance instance;
+    private final FareEngine engine;
+    private final double[] baseFare;
+    private final int[] capacity;
+    private final double[][] loadCurves;
+    private final AtomicLongArray quotes;
+    private final AtomicIntegerArray versions;
+
+    FareCurve(FlightInstance instance, FareEngine engine) {
+        this.instance = instance;
+        this.engine = engine;
+        int classes = SeatClass.values().length;
+        this.baseFare = new double[classes];
+        this.capacity = new int[classes];
+        this.loadCurves = new double[classes][];
+        this.quotes = new AtomicLongArray(classes);
+        this.versions = new AtomicIntegerArray(classes);
+
+        for (int c = 0; c < classes; c++) {
+            baseFare[c] = Double.MAX_VALUE;
+        }
+        SeatLayout layout = instance.getSeatMap().getLayout();
+        for (int i = 0; i < layout.size(); i++) {
+            int c = layout.seatClass(i).ordinal();
+            capacity[c]++;
+            baseFare[c] = Math.min(baseFare[c], instance.baseFareOf(i));
+        }
+        for (int c = 0; c < classes; c++) {
+            if (capacity[c] == 0) {
+                baseFare[c] = 0;
+            }
+            loadCurves[c] = engine.loadCurve(capacity[c]);
+        }
+    }
+
+    public boolean hasCabin(SeatClass seatClass) {
+        return capacity[seatClass.ordinal()] > 0;
+    }
+
+    // Double.POSITIVE_INFINITY when the aircraft has no seats of that class.
+    public double quote(SeatClass seatClass) {
+        int c = seatClass.ordinal();
+        if (capacity[c] == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int today = (int) (System.currentTimeMillis() / DAY_MS);
+        int version = versions.get(c) & 0xFFFF;
+        long cached = quotes.get(c);
+        if (cached >>> 48 == (today & 0xFFFF) && (int) (cached >>> 32 & 0xFFFF) == version) {
+            return (int) cached / 100.0;
+        }
+        int sold = capacity[c] - instance.getSeatMap().countAvailable(seatClass);
+        int daysOut = (int) (instance.getDepartureTime().getTime() / DAY_MS) - today;
+        long cents = Math.round(baseFare[c] * loadCurves[c][sold] * engine.timeMultiplier(daysOut) * 100);
+        quotes.set(c, (long) (today & 0xFFFF) << 48 | (long) version << 32 | (cents & 0xFFFFFFFFL));
+        return cents / 100.0;
+    }
+
+    // Called after every seat state change; other cabins keep their cached quotes.
+    public void invalidate(SeatClass seatClass) {
+        versions.incrementAndGet(seatClass.ordinal());
+    }
+}
@@ -0,0 +1,44 @@
+package educative.AirLineManagement;
+
+// Pricing policy shared by every flight: fares rise with the load factor of the cabin and as departure approaches.
+// Both curves are tabulated once so a quote only ever multiplies a few precomputed values.
+public class FareEngine {
+    static final int MAX_DAYS_OUT = 365;
+    private static final double MAX_LOAD_SURCHARGE = 1.0;
+
+    private final double[] timeMultipliers;
+
+    private static class Holder {
+        private static final FareEngine INSTANCE = new FareEngine();
+    }
+
+    public static FareEngine getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private FareEngine() {
+        timeMultipliers = new double[MAX_DAYS_OUT + 1];
+        for (int days = 0; days <= MAX_DAYS_OUT; days++) {
+            // Early-bird discount far out, climbing steeply inside the last three weeks.
+            timeMultipliers[days] = days >= 60 ? 0.85 : 0.85 + 0.75 * Math.pow((60 - days) / 60.0, 3);
+        }
+    }
+
+    public FareCurve buildCurve(FlightInstance instance) {
+        return new FareCurve(instance, this);
+    }
+
+    double timeMultiplier(int daysOut) {
+        return timeMultipliers[Math.max(0, Math.min(MAX_DAYS_OUT, daysOut))];
+    }
+
+    // Index = seats sold in the cabin; the surcharge grows quadratically so the last seats are the priciest.
+    double[] loadCurve(int capacity) {
+        double[] curve = new double[capacity + 1];
+        for (int sold = 0; sold <= capacity; sold++) {
+            double load = capacity == 0 ? 0 : (double) sold / capacity;
+            curve[sold] = 1.0 + MAX_LOAD_SURCHARGE * load * load;
+        }
+        return curve;
+    }
+}
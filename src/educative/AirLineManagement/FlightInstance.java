@@ -1,5 +1,6 @@
 package educative.AirLineManagement;
 
+import java.util.AbstractList;
 import java.util.Date;
 import java.util.List;
 
@@ -7,9 +8,13 @@ public class FlightInstance {
     private Flight flight;
     private Date departureTime;
     private String gate;
-    private FlightStatus status;
+    private volatile FlightStatus status;
     private Aircraft aircraft;
     private List<FlightSeat> seats;
+    private double baseFare;
+    private volatile SeatMap seatMap;
+    private volatile FareCurve fareCurve;
+    private volatile Waitlist waitlist;
 
     public FlightInstance(Flight flight, Date departureTime, String gate, FlightStatus status, Aircraft aircraft, List<FlightSeat> seats) {
         this.flight = flight;
@@ -20,6 +25,12 @@ public class FlightInstance {
         this.seats = seats;
     }
 
+    // Seats come from the aircraft's shared SeatLayout; only their state is kept per instance.
+    public FlightInstance(Flight flight, Date departureTime, String gate, FlightStatus status, Aircraft aircraft, double baseFare) {
+        this(flight, departureTime, gate, status, aircraft, (List<FlightSeat>) null);
+        this.baseFare = baseFare;
+    }
+
     public Flight getFlight() { return flight; }
     public void setFlight(Flight flight) { this.flight = flight; }
 
@@ -30,11 +41,257 @@ public class FlightInstance {
     public void setGate(String gate) { this.gate = gate; }
 
     public FlightStatus getStatus() { return status; }
-    public void setStatus(FlightStatus status) { this.status = status; }
+    // Every real change is published to the FlightStatusBus; publishing never blocks, and doing it under
+    // the lock keeps event order equal to the order of changes. Canceling also cancels everyone still queued.
+    public synchronized void setStatus(FlightStatus status) {
+        FlightStatus previous = this.status;
+        this.status = status;
+        if (previous != status) {
+            FlightStatusBus.getInstance().publish(this, previous, status);
+            if (status == FlightStatus.CANCELED) {
+                getWaitlist().close();
+            }
+        }
+    }
+
+    // Moves the departure and publishes DELAYED even when already delayed, so gates and crew re-plan.
+    // The Airline's date index is updated outside this lock, which ranks below the flight's.
+    public void delayTo(Date newDepartureTime) {
+        synchronized (this) {
+            FlightStatus previous = this.status;
+            this.departureTime = newDepartureTime;
+            this.status = FlightStatus.DELAYED;
+            FlightStatusBus.getInstance().publish(this, previous, FlightStatus.DELAYED);
+        }
+        Airline.getInstance().reindexInstance(this);
+    }
 
     public Aircraft getAircraft() { return aircraft; }
     public void setAircraft(Aircraft aircraft) { this.aircraft = aircraft; }
 
-    public List<FlightSeat> getSeats() { return seats; }
-    public void setSeats(List<FlightSeat> seats) { this.seats = seats; }
+    // Without an explicit seat list this is a read-only view over the seat map; seats are created on access.
+    public List<FlightSeat> getSeats() {
+        if (seats != null) {
+            return seats;
+        }
+        SeatMap map = getSeatMap();
+        return new AbstractList<FlightSeat>() {
+            @Override
+            public FlightSeat get(int index) { return new FlightSeat(FlightInstance.this, map, index, baseFare); }
+
+            @Override
+            public int size() { return map.size(); }
+        };
+    }
+
+    public void setSeats(List<FlightSeat> seats) {
+        this.seats = seats;
+        this.seatMap = null;
+        this.fareCurve = null;
+    }
+
+    // Built on first use so seats added through getSeats() during setup are indexed.
+    public SeatMap getSeatMap() {
+        SeatMap map = seatMap;
+        if (map == null) {
+            synchronized (this) {
+                map = seatMap;
+                if (map == null) {
+                    map = seats == null ? new SeatMap(aircraft.getSeatLayout()) : bind(seats);
+                    seatMap = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    private SeatMap bind(List<FlightSeat> seats) {
+        SeatMap map = new SeatMap(new SeatLayout(seats));
+        for (int i = 0; i < seats.size(); i++) {
+            seats.get(i).bind(this, map, i);
+        }
+        return map;
+    }
+
+    public FareCurve getFareCurve() {
+        FareCurve curve = fareCurve;
+        if (curve == null) {
+            synchronized (this) {
+                curve = fareCurve;
+                if (curve == null) {
+                    curve = FareEngine.getInstance().buildCurve(this);
+                    fareCurve = curve;
+                }
+            }
+        }
+        return curve;
+    }
+
+    public Waitlist getWaitlist() {
+        Waitlist list = waitlist;
+        if (list == null) {
+            synchronized (this) {
+                list = waitlist;
+                if (list == null) {
+                    list = new Waitlist(this, OverbookingPolicy.none());
+                    waitlist = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    // Requests already queued stay queued; the new policy applies to requests made from now on.
+    public void setOverbookingPolicy(OverbookingPolicy policy) {
+        getWaitlist().setPolicy(policy);
+    }
+
+    // Seats the passenger, sells an oversold ticket or waitlists them; see SeatRequest.getStatus().
+    public SeatRequest requestSeat(Passenger passenger, Account account, SeatClass seatClass, int loyaltyTier, String reservationNumber) {
+        return getWaitlist().request(passenger, account, seatClass, loyaltyTier, reservationNumber);
+    }
+
+    double baseFareOf(int index) {
+        return seats != null ? seats.get(index).getFare() : baseFare;
+    }
+
+    public double quoteFare(SeatClass seatClass) {
+        return getFareCurve().quote(seatClass);
+    }
+
+    public FlightSeat getSeat(String seatNumber) {
+        int index = getSeatMap().indexOf(seatNumber);
+        return index < 0 ? null : seatAt(index);
+    }
+
+    public FlightSeat findAvailableSeat(SeatClass seatClass, SeatType type) {
+        int index = getSeatMap().findAvailable(seatClass, type);
+        return index < 0 ? null : seatAt(index);
+    }
+
+    public FlightSeat bookSeat(SeatClass seatClass, SeatType type, String reservationNumber) {
+        SeatMap map = getSeatMap();
+        int index = map.claimAvailable(seatClass, type);
+        if (index < 0) {
+            return null;
+        }
+        map.markBooked(index, reservationNumber);
+        seatStateChanged(index);
+        return seatAt(index);
+    }
+
+    public boolean bookSeat(FlightSeat seat, String reservationNumber) {
+        SeatMap map = getSeatMap();
+        int index = map.indexOf(seat.getSeatNumber());
+        if (index < 0 || !map.claim(index)) {
+            return false;
+        }
+        map.markBooked(index, reservationNumber);
+        seatStateChanged(index);
+        return true;
+    }
+
+    // Frees whichever booking holds the seat at the time of the call.
+    public boolean releaseSeat(FlightSeat seat) {
+        SeatMap map = getSeatMap();
+        int index = map.indexOf(seat.getSeatNumber());
+        return index >= 0 && releaseBooked(index, map.ownerOf(index));
+    }
+
+    // Frees the seat only while it is still booked under the given reservation number.
+    public boolean releaseSeat(FlightSeat seat, String reservationNumber) {
+        SeatMap map = getSeatMap();
+        int index = map.indexOf(seat.getSeatNumber());
+        if (index < 0) {
+            return false;
+        }
+        SeatMap.Owner owner = map.ownerOf(index);
+        return owner != null && owner.reservationNumber.equals(reservationNumber == null ? "" : reservationNumber)
+                && releaseBooked(index, owner);
+    }
+
+    private boolean releaseBooked(int index, SeatMap.Owner owner) {
+        if (!getSeatMap().release(index, owner)) {
+            return false;
+        }
+        seatStateChanged(index);
+        promoteWaitlist(index);
+        return true;
+    }
+
+    // Takes a seat out of availability for ttlMillis while payment runs; unconfirmed holds expire back on their own.
+    public SeatHold holdSeat(SeatClass seatClass, SeatType type, long ttlMillis) {
+        int index = getSeatMap().claimAvailable(seatClass, type);
+        if (index < 0) {
+            return null;
+        }
+        return hold(index, ttlMillis);
+    }
+
+    // Holds one particular seat; null if it is not available.
+    public SeatHold holdSeat(FlightSeat seat, long ttlMillis) {
+        SeatMap map = getSeatMap();
+        int index = map.indexOf(seat.getSeatNumber());
+        if (index < 0 || !map.claim(index)) {
+            return null;
+        }
+        return hold(index, ttlMillis);
+    }
+
+    private SeatHold hold(int index, long ttlMillis) {
+        getSeatMap().markHeld(index);
+        seatStateChanged(index);
+        SeatHold hold = new SeatHold(this, seatAt(index), index, System.currentTimeMillis() + ttlMillis);
+        HoldExpiryWheel.getInstance().schedule(hold);
+        return hold;
+    }
+
+    public boolean confirmHold(SeatHold hold, String reservationNumber) {
+        if (hold.getInstance() != this || !hold.confirm()) {
+            return false;
+        }
+        getSeatMap().markBooked(hold.getSeatIndex(), reservationNumber);
+        seatStateChanged(hold.getSeatIndex());
+        return true;
+    }
+
+    public boolean releaseHold(SeatHold hold) {
+        if (hold.getInstance() != this || !hold.release()) {
+            return false;
+        }
+        freeSeat(hold.getSeatIndex());
+        return true;
+    }
+
+    void expireHold(SeatHold hold) {
+        if (hold.release()) {
+            freeSeat(hold.getSeatIndex());
+        }
+    }
+
+    private void freeSeat(int index) {
+        if (getSeatMap().releaseHeld(index)) {
+            seatStateChanged(index);
+            promoteWaitlist(index);
+        }
+    }
+
+    // Runs after the seat is back in the map, so a concurrent promotion either sees it or runs again after us.
+    private void promoteWaitlist(int index) {
+        Waitlist list = waitlist;
+        if (list != null) {
+            list.promote(getSeatMap().getLayout().seatClass(index));
+        }
+    }
+
+    private FlightSeat seatAt(int index) {
+        return seats != null ? seats.get(index) : new FlightSeat(this, getSeatMap(), index, baseFare);
+    }
+
+    private void seatStateChanged(int index) {
+        FareCurve curve = fareCurve;
+        if (curve != null) {
+            curve.invalidate(getSeatMap().getLayout().seatClass(index));
+        }
+    }
 }
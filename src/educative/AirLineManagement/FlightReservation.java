@@ -38,7 +38,7 @@ public class FlightReservation {
 
     public static FlightReservation fetchReservationDetails(String reservationNumber) {
         System.out.println("Fetching reservation for: " + reservationNumber);
-        return null; // In real systems, this would query a DB or repository
+        return ReservationStore.getInstance().find(reservationNumber);
     }
 
     public List<Passenger> getPassengers() {
@@ -1,9 +1,16 @@
 package educative.AirLineManagement;
 
 public class FlightSeat extends Seat {
+    // How long setStatus(HELD) keeps a bound seat before it expires back to availability
+    public static final long DEFAULT_HOLD_MILLIS = 10 * 60 * 1000;
+
     private double fare;
     private SeatStatus status;
     private String reservationNumber;
+    // Once bound, status and reservation number live in the flight instance's SeatMap and this object is a view.
+    private FlightInstance instance;
+    private SeatMap seatMap;
+    private int index;
 
     public FlightSeat(String seatNumber, SeatType type, SeatClass _class, double fare) {
         super(seatNumber, type, _class);
@@ -12,12 +19,74 @@ public class FlightSeat extends Seat {
         this.reservationNumber = null;
     }
 
+    FlightSeat(FlightInstance instance, SeatMap seatMap, int index, double fare) {
+        super(seatMap.getLayout().seatNumber(index), seatMap.getLayout().seatType(index), seatMap.getLayout().seatClass(index));
+        this.fare = fare;
+        this.instance = instance;
+        this.seatMap = seatMap;
+        this.index = index;
+    }
+
+    // Moves this seat's state into the map; called once when the instance indexes an explicit seat list.
+    void bind(FlightInstance instance, SeatMap seatMap, int index) {
+        if (status != SeatStatus.AVAILABLE) {
+            seatMap.claim(index);
+            if (status == SeatStatus.HELD) {
+                seatMap.markHeld(index);
+            } else {
+                seatMap.markBooked(index, reservationNumber);
+            }
+        }
+        this.instance = instance;
+        this.seatMap = seatMap;
+        this.index = index;
+    }
+
+    int getIndex() { return index; }
+
     public double getFare() { return fare; }
     public void setFare(double fare) { this.fare = fare; }
 
-    public SeatStatus getStatus() { return status; }
-    public void setStatus(SeatStatus status) { this.status = status; }
+    public SeatStatus getStatus() {
+        return seatMap == null ? status : seatMap.statusOf(index);
+    }
 
-    public String getReservationNumber() { return reservationNumber; }
-    public void setReservationNumber(String reservationNumber) { this.reservationNumber = reservationNumber; }
-}
\ No newline at end of file
+    public void setStatus(SeatStatus status) {
+        if (seatMap == null) {
+            this.status = status;
+        } else if (status == SeatStatus.AVAILABLE) {
+            // Same guarded path as a cancel, so the waitlist is offered the seat; held seats are freed through their hold
+            instance.releaseSeat(this);
+        } else if (status == SeatStatus.HELD) {
+            // A real SeatHold, so the fare cache is invalidated and the hold expires like any other unless confirmed
+            instance.holdSeat(this, DEFAULT_HOLD_MILLIS);
+        } else {
+            instance.bookSeat(this, null);
+        }
+    }
+
+    public String getReservationNumber() {
+        return seatMap == null ? reservationNumber : seatMap.reservationNumberOf(index);
+    }
+
+    public void setReservationNumber(String reservationNumber) {
+        if (seatMap == null) {
+            this.reservationNumber = reservationNumber;
+        } else if (seatMap.statusOf(index) == SeatStatus.BOOKED) {
+            seatMap.markBooked(index, reservationNumber);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (seatMap == null || !(o instanceof FlightSeat)) return false;
+        FlightSeat other = (FlightSeat) o;
+        return seatMap == other.seatMap && index == other.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return seatMap == null ? System.identityHashCode(this) : System.identityHashCode(seatMap) * 31 + index;
+    }
+}
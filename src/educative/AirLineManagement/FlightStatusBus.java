@@ -0,0 +1,181 @@
+package educative.AirLineManagement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// In-process fan-out of FlightStatus changes. Subscriptions are indexed by flight instance, and every
+// listener has one mailbox that keeps only the latest event per instance. Publishing is a map lookup plus
+// one put per subscriber, so a slow listener never blocks publishers; during a delay storm it simply
+// skips intermediate states and sees each instance's current status.
+public class FlightStatusBus {
+    private static final CopyOnWriteArrayList<Mailbox> NO_SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    private final Map<FlightInstance, CopyOnWriteArrayList<Mailbox>> byInstance = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Mailbox> allInstances = new CopyOnWriteArrayList<>();
+    private final Map<FlightStatusListener, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private static class Holder {
+        private static final FlightStatusBus INSTANCE = new FlightStatusBus(Runtime.getRuntime().availableProcessors());
+    }
+
+    public static FlightStatusBus getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public FlightStatusBus(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "flight-status-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void subscribe(FlightInstance instance, FlightStatusListener listener) {
+        Mailbox mailbox = mailboxFor(listener);
+        byInstance.compute(instance, (k, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = new CopyOnWriteArrayList<>();
+            }
+            if (!subscribers.addIfAbsent(mailbox)) {
+                release(mailbox);
+            }
+            return subscribers;
+        });
+    }
+
+    // For listeners such as departure boards that care about every instance.
+    public void subscribeAll(FlightStatusListener listener) {
+        Mailbox mailbox = mailboxFor(listener);
+        if (!allInstances.addIfAbsent(mailbox)) {
+            release(mailbox);
+        }
+    }
+
+    public void unsubscribe(FlightInstance instance, FlightStatusListener listener) {
+        Mailbox mailbox = mailboxes.get(listener);
+        if (mailbox == null) {
+            return;
+        }
+        byInstance.computeIfPresent(instance, (k, subscribers) -> {
+            if (subscribers.remove(mailbox)) {
+                release(mailbox);
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public void unsubscribeAll(FlightStatusListener listener) {
+        Mailbox mailbox = mailboxes.get(listener);
+        if (mailbox != null && allInstances.remove(mailbox)) {
+            release(mailbox);
+        }
+    }
+
+    public void publish(FlightInstance instance, FlightStatus previousStatus, FlightStatus status) {
+        published.increment();
+        List<Mailbox> subscribers = byInstance.getOrDefault(instance, NO_SUBSCRIBERS);
+        if (subscribers.isEmpty() && allInstances.isEmpty()) {
+            return;
+        }
+        FlightStatusEvent event = new FlightStatusEvent(instance, previousStatus, status, sequence.incrementAndGet());
+        for (Mailbox mailbox : subscribers) {
+            mailbox.offer(event);
+        }
+        for (Mailbox mailbox : allInstances) {
+            mailbox.offer(event);
+        }
+    }
+
+    // Waits until every queued event has been delivered or superseded; used by tests and shutdown.
+    public boolean awaitDelivered(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (delivered.sum() + failed.sum() + conflated.sum() < enqueued.sum()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    public String getStats() {
+        return "published=" + published.sum() + " enqueued=" + enqueued.sum() + " conflated=" + conflated.sum()
+                + " delivered=" + delivered.sum() + " failed=" + failed.sum();
+    }
+
+    // A listener keeps one mailbox for as long as it has at least one subscription.
+    private Mailbox mailboxFor(FlightStatusListener listener) {
+        return mailboxes.compute(listener, (l, mailbox) -> {
+            if (mailbox == null) {
+                mailbox = new Mailbox(l);
+            }
+            mailbox.subscriptions++;
+            return mailbox;
+        });
+    }
+
+    private void release(Mailbox mailbox) {
+        mailboxes.computeIfPresent(mailbox.listener, (l, current) -> --current.subscriptions == 0 ? null : current);
+    }
+
+    // Drained by at most one executor thread at a time, so listeners see events serially.
+    private class Mailbox implements Runnable {
+        final FlightStatusListener listener;
+        final Map<FlightInstance, FlightStatusEvent> latest = new ConcurrentHashMap<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        int subscriptions; // only touched inside the mailboxes map's compute calls
+
+        Mailbox(FlightStatusListener listener) {
+            this.listener = listener;
+        }
+
+        void offer(FlightStatusEvent event) {
+            enqueued.increment();
+            latest.merge(event.getInstance(), event, (queued, incoming) -> {
+                conflated.increment();
+                return incoming.getSequence() > queued.getSequence() ? incoming : queued;
+            });
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (FlightInstance instance : latest.keySet()) {
+                FlightStatusEvent event = latest.remove(instance);
+                if (event == null) {
+                    continue;
+                }
+                try {
+                    listener.onStatusChange(event);
+                    delivered.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                }
+            }
+            scheduled.set(false);
+            // An offer that raced with the end of the drain found us still scheduled; pick its event up now.
+            if (!latest.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+    }
+}
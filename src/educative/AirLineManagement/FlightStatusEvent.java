@@ -0,0 +1,28 @@
+package educative.AirLineManagement;
+
+public class FlightStatusEvent {
+    private final FlightInstance instance;
+    private final FlightStatus previousStatus;
+    private final FlightStatus status;
+    private final long sequence;
+    private final long timestamp;
+
+    public FlightStatusEvent(FlightInstance instance, FlightStatus previousStatus, FlightStatus status, long sequence) {
+        this.instance = instance;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.sequence = sequence;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public FlightInstance getInstance() { return instance; }
+    public FlightStatus getPreviousStatus() { return previousStatus; }
+    public FlightStatus getStatus() { return status; }
+    public long getSequence() { return sequence; }
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return instance.getFlight().getFlightNo() + " " + previousStatus + " -> " + status;
+    }
+}
@@ -0,0 +1,5 @@
+package educative.AirLineManagement;
+
+public interface FlightStatusListener {
+    void onStatusChange(FlightStatusEvent event);
+}
@@ -0,0 +1,183 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+// Assigns an airport's gates to departing flight instances. Each departure occupies its gate from
+// boarding until pushback plus a buffer. The day plan is classic interval partitioning: departures in
+// start order, a min-heap of busy gates by the time they free up and a min-heap of free gates.
+// Each gate also keeps its occupancy tree, so a delay only moves the one departure: it stays on its gate
+// if the new window still fits between its neighbours, otherwise it takes the first gate with room.
+// Departures that fit nowhere go to a remote stand.
+// The allocator follows the status of only the departures it has placed: it subscribes to an instance on
+// the bus when it assigns it and unsubscribes when the gate is released, so a delay storm elsewhere in the
+// network never reaches it.
+public class GateAllocator implements FlightStatusListener {
+    public static final String REMOTE_STAND = "REMOTE";
+
+    private final Airport airport;
+    private final List<String> gates;
+    private final long beforeMillis;
+    private final long afterMillis;
+    private final List<TreeMap<Long, Occupancy>> byGate = new ArrayList<>();
+    private final Map<FlightInstance, Occupancy> assignments = new HashMap<>();
+
+    public GateAllocator(Airport airport, List<String> gates, int boardingMinutes, int bufferMinutes) {
+        this.airport = airport;
+        this.gates = new ArrayList<>(gates);
+        this.beforeMillis = boardingMinutes * 60_000L;
+        this.afterMillis = bufferMinutes * 60_000L;
+        for (int g = 0; g < gates.size(); g++) {
+            byGate.add(new TreeMap<>());
+        }
+    }
+
+    public Airport getAirport() { return airport; }
+    public List<String> getGates() { return gates; }
+
+    // Replaces the current plan; O(n log n) in the number of departures.
+    public synchronized void planDay(Collection<FlightInstance> departures) {
+        releaseAll();
+        List<FlightInstance> ordered = new ArrayList<>(departures);
+        ordered.sort(Comparator.comparingLong(instance -> instance.getDepartureTime().getTime()));
+        PriorityQueue<long[]> busy = new PriorityQueue<>(Comparator.comparingLong((long[] gate) -> gate[0]));
+        PriorityQueue<Integer> free = new PriorityQueue<>();
+        for (int g = 0; g < gates.size(); g++) {
+            free.add(g);
+        }
+        for (FlightInstance instance : ordered) {
+            if (instance.getStatus() == FlightStatus.CANCELED) {
+                continue;
+            }
+            long start = start(instance);
+            while (!busy.isEmpty() && busy.peek()[0] <= start) {
+                free.add((int) busy.poll()[1]);
+            }
+            Integer gate = free.poll();
+            FlightStatusBus.getInstance().subscribe(instance, this);
+            if (gate == null) {
+                assign(instance, -1, start);
+                continue;
+            }
+            assign(instance, gate, start);
+            busy.add(new long[] {start + beforeMillis + afterMillis, gate});
+        }
+    }
+
+    // Re-plans a single departure after its time changed; O(gates * log n) in the worst case.
+    public synchronized String reassign(FlightInstance instance) {
+        Occupancy previous = assignments.remove(instance);
+        int preferred = -1;
+        if (previous == null) {
+            FlightStatusBus.getInstance().subscribe(instance, this);
+        } else if (previous.gate >= 0) {
+            byGate.get(previous.gate).remove(previous.start);
+            preferred = previous.gate;
+        }
+        long start = start(instance);
+        long end = start + beforeMillis + afterMillis;
+        int gate = preferred >= 0 && fits(preferred, start, end) ? preferred : -1;
+        for (int g = 0; gate < 0 && g < gates.size(); g++) {
+            if (fits(g, start, end)) {
+                gate = g;
+            }
+        }
+        return assign(instance, gate, start);
+    }
+
+    public synchronized void release(FlightInstance instance) {
+        Occupancy previous = assignments.remove(instance);
+        if (previous == null) {
+            return;
+        }
+        FlightStatusBus.getInstance().unsubscribe(instance, this);
+        if (previous.gate >= 0) {
+            byGate.get(previous.gate).remove(previous.start);
+        }
+    }
+
+    // Frees every gate and stops following the departures, e.g. when the airport replaces its allocator.
+    public synchronized void releaseAll() {
+        for (FlightInstance instance : assignments.keySet()) {
+            FlightStatusBus.getInstance().unsubscribe(instance, this);
+        }
+        assignments.clear();
+        for (TreeMap<Long, Occupancy> occupancy : byGate) {
+            occupancy.clear();
+        }
+    }
+
+    public synchronized String getGate(FlightInstance instance) {
+        Occupancy occupancy = assignments.get(instance);
+        return occupancy == null ? null : occupancy.gate < 0 ? REMOTE_STAND : gates.get(occupancy.gate);
+    }
+
+    public synchronized int getRemoteCount() {
+        int remote = 0;
+        for (Occupancy occupancy : assignments.values()) {
+            if (occupancy.gate < 0) remote++;
+        }
+        return remote;
+    }
+
+    // Delays arrive as a new departure time followed by a status change; cancellations free the gate.
+    @Override
+    public void onStatusChange(FlightStatusEvent event) {
+        FlightInstance instance = event.getInstance();
+        synchronized (this) {
+            Occupancy occupancy = assignments.get(instance);
+            if (occupancy == null) {
+                return;
+            }
+            if (event.getStatus() == FlightStatus.CANCELED) {
+                release(instance);
+            } else if (occupancy.start != start(instance)) {
+                reassign(instance);
+            }
+        }
+    }
+
+    private String assign(FlightInstance instance, int gate, long start) {
+        Occupancy occupancy = new Occupancy(gate, start, start + beforeMillis + afterMillis);
+        assignments.put(instance, occupancy);
+        String name = REMOTE_STAND;
+        if (gate >= 0) {
+            byGate.get(gate).put(start, occupancy);
+            name = gates.get(gate);
+        }
+        instance.setGate(name);
+        return name;
+    }
+
+    private boolean fits(int gate, long start, long end) {
+        TreeMap<Long, Occupancy> occupancy = byGate.get(gate);
+        Map.Entry<Long, Occupancy> before = occupancy.floorEntry(start);
+        if (before != null && before.getValue().end > start) {
+            return false;
+        }
+        Map.Entry<Long, Occupancy> after = occupancy.ceilingEntry(start);
+        return after == null || after.getKey() >= end;
+    }
+
+    private long start(FlightInstance instance) {
+        return instance.getDepartureTime().getTime() - beforeMillis;
+    }
+
+    private static class Occupancy {
+        final int gate;
+        final long start;
+        final long end;
+
+        Occupancy(int gate, long start, long end) {
+            this.gate = gate;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Hashed timing wheel for seat holds: scheduling and expiring a hold are O(1),
+// and each tick only touches the holds that land in its bucket.
+public class HoldExpiryWheel {
+    private static final long DEFAULT_TICK_MS = 100;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickMs;
+    private final int mask;
+    private final ConcurrentLinkedQueue<SeatHold>[] buckets;
+    private final long startTime;
+    private final ScheduledExecutorService ticker;
+    // Written by the wheel thread only; read by schedulers to stay ahead of the sweep.
+    private volatile long processedTick;
+
+    private static class Holder {
+        private static final HoldExpiryWheel INSTANCE = new HoldExpiryWheel(DEFAULT_TICK_MS, DEFAULT_WHEEL_SIZE);
+    }
+
+    public static HoldExpiryWheel getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HoldExpiryWheel(long tickMs, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.buckets = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.startTime = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hold-expiry-wheel");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void schedule(SeatHold hold) {
+        long processed = processedTick;
+        long targetTick = Math.max(Math.max(tickOf(hold.getExpiresAt()), tickOf(System.currentTimeMillis()) + 1), processed + 1);
+        hold.setRemainingRounds(Math.max(0, (targetTick - processed - 1) / buckets.length));
+        buckets[(int) (targetTick & mask)].offer(hold);
+        // If the sweep passed the target bucket before the hold landed in it, the hold would wait a full rotation;
+        // place it again ahead of the sweep. A copy the sweep already saw is dropped once the hold is no longer active.
+        if (processedTick >= targetTick && hold.isActive()) {
+            schedule(hold);
+        }
+    }
+
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private long tickOf(long timeMs) {
+        return (timeMs - startTime) / tickMs;
+    }
+
+    // Runs on the wheel thread only; catches up on every tick missed since the last run.
+    private void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = tickOf(now);
+        while (processedTick < currentTick) {
+            processedTick++;
+            expireBucket(buckets[(int) (processedTick & mask)], now);
+        }
+    }
+
+    private void expireBucket(ConcurrentLinkedQueue<SeatHold> bucket, long now) {
+        List<SeatHold> notDue = new ArrayList<>();
+        SeatHold hold;
+        while ((hold = bucket.poll()) != null) {
+            if (!hold.isActive()) {
+                continue;
+            }
+            if (hold.getRemainingRounds() > 0) {
+                hold.setRemainingRounds(hold.getRemainingRounds() - 1);
+                notDue.add(hold);
+            } else if (hold.getExpiresAt() > now) {
+                schedule(hold);
+            } else {
+                hold.getInstance().expireHold(hold);
+            }
+        }
+        bucket.addAll(notDue);
+    }
+}
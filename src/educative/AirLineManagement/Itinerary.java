@@ -3,12 +3,13 @@ package educative.AirLineManagement;
 import java.util.Date;
 import java.util.List;
 
-public class Itinerary {
+public class Itinerary implements FlightStatusListener {
     private Airport startingAirport;
     private Airport finalAirport;
     private Date creationDate;
     private List<FlightReservation> reservations;
     private List<Passenger> passengers;
+    private volatile Account contact;
 
     public Itinerary(Airport startingAirport, Airport finalAirport, Date creationDate,
                      List<FlightReservation> reservations, List<Passenger> passengers) {
@@ -34,6 +35,34 @@ public class Itinerary {
     public List<Passenger> getPassengers() { return passengers; }
     public void setPassengers(List<Passenger> passengers) { this.passengers = passengers; }
 
+    // Pushes status changes of every reserved flight to the contact's account instead of making them poll.
+    public void followFlights(Account contact) {
+        this.contact = contact;
+        for (FlightReservation reservation : reservations) {
+            if (reservation.getFlight() != null) {
+                FlightStatusBus.getInstance().subscribe(reservation.getFlight(), this);
+            }
+        }
+    }
+
+    public void unfollowFlights() {
+        for (FlightReservation reservation : reservations) {
+            if (reservation.getFlight() != null) {
+                FlightStatusBus.getInstance().unsubscribe(reservation.getFlight(), this);
+            }
+        }
+    }
+
+    @Override
+    public void onStatusChange(FlightStatusEvent event) {
+        Account account = contact;
+        if (account != null) {
+            Notification notification = new SmsNotification(event.getSequence(), "Flight " + event.getInstance().getFlight().getFlightNo()
+                    + " is now " + event.getStatus());
+            NotificationDispatcher.getInstance().submit(notification, account);
+        }
+    }
+
     public boolean makeReservation() {
         System.out.println("Making reservations for passengers...");
         return true;
@@ -0,0 +1,54 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Books a multi-leg itinerary so that every leg gets a seat or none does. It runs in two phases on the
+// caller's thread: first each leg is held, and only when every hold succeeds are they all confirmed;
+// otherwise the holds are released. Each leg is written through its own seat map's CAS transitions, so
+// itineraries over different instances never contend and there is no shared lock or executor to scale past.
+// Holds carry a TTL, so a caller that dies between the phases leaves nothing behind.
+public class ItineraryBooker {
+    private static final long HOLD_TTL_MILLIS = 30_000;
+
+    private static class Holder {
+        private static final ItineraryBooker INSTANCE = new ItineraryBooker();
+    }
+
+    public static ItineraryBooker getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    // Returns the seats in leg order, or null if any leg is full.
+    public List<FlightSeat> bookItinerary(List<FlightInstance> legs, SeatClass seatClass, String reservationNumber) {
+        List<SeatHold> held = new ArrayList<>(legs.size());
+        for (FlightInstance leg : legs) {
+            SeatHold hold = leg.holdSeat(seatClass, null, HOLD_TTL_MILLIS);
+            if (hold == null) {
+                abort(held);
+                return null;
+            }
+            held.add(hold);
+        }
+        List<FlightSeat> seats = new ArrayList<>(held.size());
+        for (int i = 0; i < held.size(); i++) {
+            SeatHold hold = held.get(i);
+            if (!hold.getInstance().confirmHold(hold, reservationNumber)) {
+                // A hold expired between the phases: undo the legs that did confirm and drop the rest.
+                for (int done = 0; done < i; done++) {
+                    held.get(done).getInstance().releaseSeat(seats.get(done), reservationNumber);
+                }
+                abort(held.subList(i + 1, held.size()));
+                return null;
+            }
+            seats.add(hold.getSeat());
+        }
+        return seats;
+    }
+
+    private void abort(List<SeatHold> held) {
+        for (SeatHold hold : held) {
+            hold.getInstance().releaseHold(hold);
+        }
+    }
+}
@@ -3,17 +3,17 @@ package educative.AirLineManagement;
 import java.util.Date;
 
 public abstract class Notification {
-    private int notificationId;
+    private long notificationId;
     private Date createdOn;
     private String content;
 
-    public Notification(int notificationId, String content) {
+    public Notification(long notificationId, String content) {
         this.notificationId = notificationId;
         this.content = content;
         this.createdOn = new Date();
     }
 
-    public int getNotificationId() { return notificationId; }
+    public long getNotificationId() { return notificationId; }
     public Date getCreatedOn() { return createdOn; }
     public String getContent() { return content; }
 
@@ -0,0 +1,191 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Decouples callers such as Payment from slow delivery channels.
+// Every Notification subclass gets its own bounded queue and drain thread, so a stalled email
+// gateway neither blocks payments nor delays SMS. A full queue rejects instead of blocking (backpressure).
+public class NotificationDispatcher {
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final int queueCapacity;
+    private final int batchSize;
+    private final Map<Class<? extends Notification>, Channel> channels = new ConcurrentHashMap<>();
+    private volatile boolean accepting = true;
+
+    private static class Holder {
+        private static final NotificationDispatcher INSTANCE = new NotificationDispatcher(DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public static NotificationDispatcher getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public NotificationDispatcher(int queueCapacity, int batchSize) {
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    // Never blocks; returns false when the channel is saturated or the dispatcher is shut down.
+    public boolean submit(Notification notification, Account account) {
+        if (!accepting) {
+            return false;
+        }
+        return channelFor(notification).offer(new Pending(notification, account));
+    }
+
+    // Blocking variant for callers that prefer to wait briefly rather than drop.
+    public boolean submit(Notification notification, Account account, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!accepting) {
+            return false;
+        }
+        return channelFor(notification).offer(new Pending(notification, account), timeout, unit);
+    }
+
+    public Map<String, ChannelStats> getStats() {
+        Map<String, ChannelStats> stats = new LinkedHashMap<>();
+        for (Map.Entry<Class<? extends Notification>, Channel> entry : channels.entrySet()) {
+            stats.put(entry.getKey().getSimpleName(), entry.getValue().stats());
+        }
+        return stats;
+    }
+
+    // Stops intake and waits for queued notifications to be delivered.
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        accepting = false;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean drained = true;
+        for (Channel channel : channels.values()) {
+            drained &= channel.awaitDrained(deadline);
+            channel.worker.interrupt();
+        }
+        return drained;
+    }
+
+    private Channel channelFor(Notification notification) {
+        return channels.computeIfAbsent(notification.getClass(), type -> new Channel(type.getSimpleName()));
+    }
+
+    private static class Pending {
+        final Notification notification;
+        final Account account;
+
+        Pending(Notification notification, Account account) {
+            this.notification = notification;
+            this.account = account;
+        }
+    }
+
+    public static class ChannelStats {
+        private final int queueDepth;
+        private final long submitted;
+        private final long delivered;
+        private final long rejected;
+        private final long failed;
+        private final double drainRatePerSecond;
+
+        ChannelStats(int queueDepth, long submitted, long delivered, long rejected, long failed, double drainRatePerSecond) {
+            this.queueDepth = queueDepth;
+            this.submitted = submitted;
+            this.delivered = delivered;
+            this.rejected = rejected;
+            this.failed = failed;
+            this.drainRatePerSecond = drainRatePerSecond;
+        }
+
+        public int getQueueDepth() { return queueDepth; }
+        public long getSubmitted() { return submitted; }
+        public long getDelivered() { return delivered; }
+        public long getRejected() { return rejected; }
+        public long getFailed() { return failed; }
+        public double getDrainRatePerSecond() { return drainRatePerSecond; }
+
+        @Override
+        public String toString() {
+            return String.format("depth=%d submitted=%d delivered=%d rejected=%d failed=%d drain=%.1f/s",
+                    queueDepth, submitted, delivered, rejected, failed, drainRatePerSecond);
+        }
+    }
+
+    private class Channel {
+        private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final Thread worker;
+        private long lastStatsNanos = System.nanoTime();
+        private long lastStatsDelivered;
+
+        Channel(String name) {
+            worker = new Thread(this::drainLoop, "notify-" + name);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        boolean offer(Pending pending) {
+            return record(queue.offer(pending));
+        }
+
+        boolean offer(Pending pending, long timeout, TimeUnit unit) throws InterruptedException {
+            return record(queue.offer(pending, timeout, unit));
+        }
+
+        private boolean record(boolean accepted) {
+            (accepted ? submitted : rejected).increment();
+            return accepted;
+        }
+
+        private void drainLoop() {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            try {
+                while (true) {
+                    Pending first = queue.take();
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    for (Pending pending : batch) {
+                        try {
+                            pending.notification.sendNotification(pending.account);
+                            delivered.increment();
+                        } catch (RuntimeException e) {
+                            failed.increment();
+                        }
+                    }
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        boolean awaitDrained(long deadlineNanos) throws InterruptedException {
+            while (delivered.sum() + failed.sum() < submitted.sum()) {
+                if (System.nanoTime() > deadlineNanos) {
+                    return false;
+                }
+                Thread.sleep(1);
+            }
+            return true;
+        }
+
+        // Drain rate is measured over the interval since the previous stats call.
+        synchronized ChannelStats stats() {
+            long now = System.nanoTime();
+            long deliveredNow = delivered.sum();
+            double seconds = Math.max(1e-9, (now - lastStatsNanos) / 1e9);
+            double rate = (deliveredNow - lastStatsDelivered) / seconds;
+            lastStatsNanos = now;
+            lastStatsDelivered = deliveredNow;
+            return new ChannelStats(queue.size(), submitted.sum(), deliveredNow, rejected.sum(), failed.sum(), rate);
+        }
+    }
+}
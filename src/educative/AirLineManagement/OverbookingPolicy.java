@@ -0,0 +1,29 @@
+package educative.AirLineManagement;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// How many tickets may be sold per cabin relative to its physical seats, e.g. 1.05 sells 5% over capacity.
+public class OverbookingPolicy {
+    private final Map<SeatClass, Double> ratios = new EnumMap<>(SeatClass.class);
+
+    public static OverbookingPolicy none() {
+        return new OverbookingPolicy();
+    }
+
+    public OverbookingPolicy setRatio(SeatClass seatClass, double ratio) {
+        if (ratio < 1.0) {
+            throw new IllegalArgumentException("Overbooking ratio must be at least 1.0: " + ratio);
+        }
+        ratios.put(seatClass, ratio);
+        return this;
+    }
+
+    public double getRatio(SeatClass seatClass) {
+        return ratios.getOrDefault(seatClass, 1.0);
+    }
+
+    public int oversellAllowance(SeatClass seatClass, int capacity) {
+        return (int) Math.floor(capacity * getRatio(seatClass)) - capacity;
+    }
+}
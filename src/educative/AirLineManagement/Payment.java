@@ -28,8 +28,7 @@ public abstract class Payment {
 
     public boolean notifyUser(Account account) {
         Notification n = new EmailNotification(paymentId, "Your payment of $" + amount + " is " + status);
-        n.sendNotification(account);
-        return true;
+        return NotificationDispatcher.getInstance().submit(n, account);
     }
 
     public abstract boolean makePayment(Account account);
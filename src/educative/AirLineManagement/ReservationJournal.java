@@ -0,0 +1,165 @@
+package educative.AirLineManagement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only, memory-mapped log of records, each laid out as length, CRC32 of the payload, payload.
+// Opening the log stops at the first record whose checksum fails, so a record torn by a crash, e.g. one
+// whose length reached the disk but not its whole payload, is dropped rather than replayed.
+// Appends copy into the mapping under a short lock; a single committer thread forces the mapping to disk
+// and releases every appender whose record is covered, so one fsync commits a whole group of writes.
+public class ReservationJournal implements Closeable {
+    private static final long CHUNK_BYTES = 64L * 1024 * 1024;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private final Thread committer;
+    private MappedByteBuffer buffer;
+    private long mappedBytes;
+    private long writePosition;
+    private long committedPosition;
+    private boolean closed;
+
+    public ReservationJournal(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map(Math.max(CHUNK_BYTES, roundUp(channel.size())));
+        this.writePosition = findEnd();
+        this.committedPosition = writePosition;
+        this.committer = new Thread(this::commitLoop, "reservation-journal-commit");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    // Feeds every record written so far, in append order, to the consumer; all of them were verified on open.
+    public synchronized void replay(Consumer<byte[]> consumer) {
+        long position = 0;
+        while (position < writePosition) {
+            int length = buffer.getInt((int) position);
+            byte[] record = new byte[length];
+            buffer.get((int) position + HEADER_BYTES, record);
+            consumer.accept(record);
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    // Returns once the record is durable.
+    public void append(byte[] record) throws IOException {
+        long end;
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Journal is closed");
+            }
+            long needed = writePosition + HEADER_BYTES + record.length;
+            if (needed + HEADER_BYTES > mappedBytes) {
+                buffer.force();
+                map(roundUp(needed + CHUNK_BYTES));
+            }
+            buffer.put((int) writePosition + HEADER_BYTES, record);
+            buffer.putInt((int) writePosition + Integer.BYTES, checksum(record));
+            // Length goes in last so an append cut short in memory never looks complete; the checksum
+            // covers the pages the OS may write back out of order.
+            buffer.putInt((int) writePosition, record.length);
+            writePosition = needed;
+            end = needed;
+            notifyAll();
+        }
+        awaitCommitted(end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    private synchronized void awaitCommitted(long position) throws IOException {
+        while (committedPosition < position) {
+            if (closed && committedPosition < position && !committer.isAlive()) {
+                throw new IOException("Journal closed before commit");
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for journal commit", e);
+            }
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            long target;
+            MappedByteBuffer toForce;
+            synchronized (this) {
+                while (committedPosition == writePosition && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (committedPosition == writePosition) {
+                    return;
+                }
+                target = writePosition;
+                toForce = buffer;
+            }
+            toForce.force();
+            synchronized (this) {
+                committedPosition = target;
+                notifyAll();
+            }
+        }
+    }
+
+    private void map(long bytes) throws IOException {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IOException("Journal exceeds a single mapping; roll to a new file");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        mappedBytes = bytes;
+    }
+
+    // End of the last intact record; appends resume there, overwriting a torn tail.
+    private long findEnd() {
+        long position = 0;
+        while (position + HEADER_BYTES <= mappedBytes) {
+            int length = buffer.getInt((int) position);
+            if (length <= 0 || position + HEADER_BYTES + length > mappedBytes) {
+                break;
+            }
+            byte[] record = new byte[length];
+            buffer.get((int) position + HEADER_BYTES, record);
+            if (buffer.getInt((int) position + Integer.BYTES) != checksum(record)) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        return (int) crc.getValue();
+    }
+
+    private static long roundUp(long bytes) {
+        return ((bytes + CHUNK_BYTES - 1) / CHUNK_BYTES) * CHUNK_BYTES;
+    }
+}
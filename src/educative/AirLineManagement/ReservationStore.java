@@ -0,0 +1,206 @@
+package educative.AirLineManagement;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory reservation repository indexed by reservation number, passenger and flight instance.
+// With a journal attached every save is appended to the log first, and opening the store replays it.
+public class ReservationStore {
+    private static final int SAVE_LOCKS = 64;
+
+    private final Map<String, FlightReservation> byNumber = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> byPassenger = new ConcurrentHashMap<>();
+    private final Map<FlightInstance, Set<String>> byFlight = new ConcurrentHashMap<>();
+    private volatile ReservationJournal journal;
+    // Saves of one reservation number run one at a time, so the journal and the indexes see them in the same
+    // order and a replay ends in the state the store had. Different numbers rarely share a lock, so their
+    // appends still wait out a group commit together.
+    private final Object[] saveLocks = new Object[SAVE_LOCKS];
+
+    private static class Holder {
+        private static final ReservationStore INSTANCE = new ReservationStore();
+    }
+
+    public static ReservationStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public ReservationStore() {
+        for (int i = 0; i < saveLocks.length; i++) {
+            saveLocks[i] = new Object();
+        }
+    }
+
+    public ReservationStore(Path journalFile) throws IOException {
+        this();
+        attachJournal(journalFile);
+    }
+
+    // Rebuilds the indexes from the journal; flight instances are resolved through the Airline registry.
+    public synchronized int attachJournal(Path journalFile) throws IOException {
+        if (journal != null) {
+            throw new IllegalStateException("Journal already attached");
+        }
+        ReservationJournal opened = new ReservationJournal(journalFile);
+        int[] replayed = new int[1];
+        opened.replay(record -> {
+            index(decode(record));
+            replayed[0]++;
+        });
+        journal = opened;
+        return replayed[0];
+    }
+
+    public void close() throws IOException {
+        ReservationJournal current = journal;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    // Upsert: saving an existing reservation number replaces it, e.g. after a status change.
+    public void save(FlightReservation reservation) {
+        String number = reservation.getReservationNumber();
+        synchronized (saveLocks[Math.floorMod(number.hashCode(), saveLocks.length)]) {
+            ReservationJournal current = journal;
+            if (current != null) {
+                try {
+                    current.append(encode(reservation));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not journal reservation " + number, e);
+                }
+            }
+            index(reservation);
+        }
+    }
+
+    public FlightReservation find(String reservationNumber) {
+        return byNumber.get(reservationNumber);
+    }
+
+    public List<FlightReservation> findByPassenger(Passenger passenger) {
+        return resolve(byPassenger.get(passenger.getPassengerId()));
+    }
+
+    public List<FlightReservation> findByFlight(FlightInstance instance) {
+        return resolve(byFlight.get(instance));
+    }
+
+    public int size() {
+        return byNumber.size();
+    }
+
+    private void index(FlightReservation reservation) {
+        String number = reservation.getReservationNumber();
+        FlightReservation previous = byNumber.put(number, reservation);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (Passenger passenger : reservation.getPassengers()) {
+            byPassenger.computeIfAbsent(passenger.getPassengerId(), k -> ConcurrentHashMap.newKeySet()).add(number);
+        }
+        if (reservation.getFlight() != null) {
+            byFlight.computeIfAbsent(reservation.getFlight(), k -> ConcurrentHashMap.newKeySet()).add(number);
+        }
+    }
+
+    private void unindex(FlightReservation reservation) {
+        String number = reservation.getReservationNumber();
+        for (Passenger passenger : reservation.getPassengers()) {
+            Set<String> numbers = byPassenger.get(passenger.getPassengerId());
+            if (numbers != null) numbers.remove(number);
+        }
+        if (reservation.getFlight() != null) {
+            Set<String> numbers = byFlight.get(reservation.getFlight());
+            if (numbers != null) numbers.remove(number);
+        }
+    }
+
+    private List<FlightReservation> resolve(Set<String> numbers) {
+        if (numbers == null) {
+            return Collections.emptyList();
+        }
+        List<FlightReservation> result = new ArrayList<>();
+        for (String number : numbers) {
+            FlightReservation reservation = byNumber.get(number);
+            if (reservation != null) result.add(reservation);
+        }
+        return result;
+    }
+
+    private static byte[] encode(FlightReservation reservation) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF(reservation.getReservationNumber());
+        FlightInstance instance = reservation.getFlight();
+        out.writeUTF(instance == null ? "" : instance.getFlight().getFlightNo());
+        out.writeLong(instance == null ? -1 : instance.getDepartureTime().getTime());
+        out.writeUTF(reservation.getStatus().name());
+        out.writeLong(reservation.getCreationDate().getTime());
+        out.writeInt(reservation.getSeatMap().size());
+        for (Map.Entry<Passenger, FlightSeat> entry : reservation.getSeatMap().entrySet()) {
+            Passenger p = entry.getKey();
+            out.writeInt(p.getPassengerId());
+            out.writeUTF(nullToEmpty(p.getName()));
+            out.writeUTF(nullToEmpty(p.getGender()));
+            out.writeLong(p.getDateOfBirth() == null ? -1 : p.getDateOfBirth().getTime());
+            out.writeUTF(nullToEmpty(p.getPassportNumber()));
+            out.writeUTF(entry.getValue() == null ? "" : entry.getValue().getSeatNumber());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static FlightReservation decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            String number = in.readUTF();
+            FlightInstance instance = findInstance(in.readUTF(), in.readLong());
+            ReservationStatus status = ReservationStatus.valueOf(in.readUTF());
+            Date created = new Date(in.readLong());
+            int passengers = in.readInt();
+            HashMap<Passenger, FlightSeat> seatMap = new HashMap<>();
+            for (int i = 0; i < passengers; i++) {
+                int id = in.readInt();
+                String name = in.readUTF();
+                String gender = in.readUTF();
+                long dob = in.readLong();
+                String passport = in.readUTF();
+                String seatNumber = in.readUTF();
+                Passenger passenger = new Passenger(id, name, gender, dob < 0 ? null : new Date(dob), passport);
+                seatMap.put(passenger, instance == null || seatNumber.isEmpty() ? null : instance.getSeat(seatNumber));
+            }
+            return new FlightReservation(number, instance, seatMap, status, created);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt reservation record", e);
+        }
+    }
+
+    private static FlightInstance findInstance(String flightNo, long departure) {
+        Flight flight = flightNo.isEmpty() ? null : Airline.getInstance().getFlight(flightNo);
+        if (flight == null || flight.getInstances() == null) {
+            return null;
+        }
+        for (FlightInstance instance : flight.getInstances()) {
+            if (instance.getDepartureTime().getTime() == departure) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
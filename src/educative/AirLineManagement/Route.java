@@ -0,0 +1,41 @@
+package educative.AirLineManagement;
+
+import java.util.Date;
+import java.util.List;
+
+public class Route {
+    private final List<FlightInstance> legs;
+    private final Date departureTime;
+    private final Date arrivalTime;
+    private final double totalFare;
+
+    public Route(List<FlightInstance> legs, Date departureTime, Date arrivalTime, double totalFare) {
+        this.legs = legs;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+        this.totalFare = totalFare;
+    }
+
+    public List<FlightInstance> getLegs() { return legs; }
+    public Date getDepartureTime() { return departureTime; }
+    public Date getArrivalTime() { return arrivalTime; }
+    public double getTotalFare() { return totalFare; }
+
+    public int getConnections() { return legs.size() - 1; }
+
+    public long getDurationMin() {
+        return (arrivalTime.getTime() - departureTime.getTime()) / 60_000;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (FlightInstance leg : legs) {
+            if (sb.length() > 0) sb.append(" -> ");
+            sb.append(leg.getFlight().getFlightNo()).append(" (")
+              .append(leg.getFlight().getDeparture().getCode()).append("-")
+              .append(leg.getFlight().getArrival().getCode()).append(")");
+        }
+        return sb + ", " + getDurationMin() + " min, $" + totalFare;
+    }
+}
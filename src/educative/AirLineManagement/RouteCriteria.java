@@ -0,0 +1,6 @@
+package educative.AirLineManagement;
+
+public enum RouteCriteria {
+    FASTEST,
+    CHEAPEST
+}
@@ -0,0 +1,232 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Time-expanded connection graph over flight instances.
+// Every instance is a connection; per departure airport the connections are kept sorted by departure time,
+// so the feasible onward flights after a layover are a contiguous slice found by binary search.
+public class RoutePlanner {
+    private static final long DEPARTURE_WINDOW_MIN = 24 * 60;
+
+    private final int minLayoverMin;
+    private final int maxLayoverMin;
+
+    private final Map<String, Integer> airportIds = new HashMap<>();
+    private final FlightInstance[] instances;
+    private final int[] arrivalAirport;
+    private final long[] departureMin;
+    private final long[] arrivalMin;
+    private final double[] fare;
+
+    // Adjacency per departure airport: connection ids and their departure times, both sorted by departure.
+    private final int[][] outgoing;
+    private final long[][] outgoingDeparture;
+
+    private final ThreadLocal<Scratch> scratch;
+
+    public RoutePlanner(Collection<Flight> flights, int minLayoverMin, int maxLayoverMin) {
+        this.minLayoverMin = minLayoverMin;
+        this.maxLayoverMin = maxLayoverMin;
+
+        List<FlightInstance> all = new ArrayList<>();
+        for (Flight flight : flights) {
+            if (flight.getInstances() == null) {
+                continue;
+            }
+            for (FlightInstance instance : flight.getInstances()) {
+                // Instances without any seats have no fare and cannot be sold on a route
+                if (instance.getStatus() != FlightStatus.CANCELED && !Double.isInfinite(lowestFare(instance))) {
+                    all.add(instance);
+                    airportId(flight.getDeparture());
+                    airportId(flight.getArrival());
+                }
+            }
+        }
+        all.sort((a, b) -> a.getDepartureTime().compareTo(b.getDepartureTime()));
+
+        int n = all.size();
+        this.instances = all.toArray(new FlightInstance[0]);
+        this.arrivalAirport = new int[n];
+        this.departureMin = new long[n];
+        this.arrivalMin = new long[n];
+        this.fare = new double[n];
+
+        int[] outDegree = new int[airportIds.size()];
+        int[] departureAirport = new int[n];
+        for (int i = 0; i < n; i++) {
+            FlightInstance instance = instances[i];
+            Flight flight = instance.getFlight();
+            departureAirport[i] = airportIds.get(flight.getDeparture().getCode());
+            arrivalAirport[i] = airportIds.get(flight.getArrival().getCode());
+            departureMin[i] = instance.getDepartureTime().getTime() / 60_000;
+            arrivalMin[i] = departureMin[i] + flight.getDurationMin();
+            fare[i] = lowestFare(instance);
+            outDegree[departureAirport[i]]++;
+        }
+
+        this.outgoing = new int[outDegree.length][];
+        this.outgoingDeparture = new long[outDegree.length][];
+        for (int a = 0; a < outDegree.length; a++) {
+            outgoing[a] = new int[outDegree[a]];
+            outgoingDeparture[a] = new long[outDegree[a]];
+        }
+        int[] fill = new int[outDegree.length];
+        for (int i = 0; i < n; i++) {
+            int a = departureAirport[i];
+            outgoing[a][fill[a]] = i;
+            outgoingDeparture[a][fill[a]++] = departureMin[i];
+        }
+
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(n));
+    }
+
+    public RoutePlanner(Collection<Flight> flights) {
+        this(flights, 45, 12 * 60);
+    }
+
+    public int getConnectionCount() {
+        return instances.length;
+    }
+
+    // Best itinerary leaving 'from' within a day of 'earliest', or null when 'to' is unreachable within maxConnections.
+    public Route findRoute(Airport from, Airport to, Date earliest, RouteCriteria criteria, int maxConnections) {
+        Integer origin = airportIds.get(from.getCode());
+        Integer destination = airportIds.get(to.getCode());
+        if (origin == null || destination == null || origin.equals(destination)) {
+            return null;
+        }
+        int maxLegs = maxConnections + 1;
+        Scratch s = scratch.get();
+        s.nextQuery();
+
+        PriorityQueue<Label> queue = new PriorityQueue<>();
+        long start = earliest.getTime() / 60_000;
+        pushSlice(queue, origin, start, start + DEPARTURE_WINDOW_MIN, null, criteria);
+
+        while (!queue.isEmpty()) {
+            Label label = queue.poll();
+            int c = label.connection;
+            if (s.isSettled(c, label.legs)) {
+                continue;
+            }
+            s.settle(c, label.legs);
+            if (arrivalAirport[c] == destination) {
+                return toRoute(label);
+            }
+            if (label.legs < maxLegs) {
+                long arrival = arrivalMin[c];
+                pushSlice(queue, arrivalAirport[c], arrival + minLayoverMin, arrival + maxLayoverMin, label, criteria);
+            }
+        }
+        return null;
+    }
+
+    private void pushSlice(PriorityQueue<Label> queue, int airport, long from, long to, Label previous, RouteCriteria criteria) {
+        int[] ids = outgoing[airport];
+        long[] departures = outgoingDeparture[airport];
+        int legs = previous == null ? 1 : previous.legs + 1;
+        Scratch s = scratch.get();
+        for (int i = lowerBound(departures, from); i < ids.length && departures[i] <= to; i++) {
+            int next = ids[i];
+            if (s.isSettled(next, legs)) {
+                continue;
+            }
+            double cost = criteria == RouteCriteria.FASTEST
+                    ? arrivalMin[next]
+                    : (previous == null ? 0 : previous.cost) + fare[next];
+            queue.add(new Label(next, legs, cost, previous));
+        }
+    }
+
+    private Route toRoute(Label last) {
+        List<FlightInstance> legs = new ArrayList<>();
+        double totalFare = 0;
+        for (Label l = last; l != null; l = l.previous) {
+            legs.add(instances[l.connection]);
+            totalFare += fare[l.connection];
+        }
+        Collections.reverse(legs);
+        return new Route(legs, legs.get(0).getDepartureTime(), new Date(arrivalMin[last.connection] * 60_000), totalFare);
+    }
+
+    private int airportId(Airport airport) {
+        return airportIds.computeIfAbsent(airport.getCode(), k -> airportIds.size());
+    }
+
+    // Double.POSITIVE_INFINITY for an instance with no seats.
+    private static double lowestFare(FlightInstance instance) {
+        double lowest = Double.POSITIVE_INFINITY;
+        for (SeatClass seatClass : SeatClass.values()) {
+            lowest = Math.min(lowest, instance.quoteFare(seatClass));
+        }
+        return lowest;
+    }
+
+    private static int lowerBound(long[] values, long key) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static class Label implements Comparable<Label> {
+        final int connection;
+        final int legs;
+        final double cost;
+        final Label previous;
+
+        Label(int connection, int legs, double cost, Label previous) {
+            this.connection = connection;
+            this.legs = legs;
+            this.cost = cost;
+            this.previous = previous;
+        }
+
+        @Override
+        public int compareTo(Label other) {
+            int byCost = Double.compare(cost, other.cost);
+            return byCost != 0 ? byCost : Integer.compare(legs, other.legs);
+        }
+    }
+
+    // Per-thread settled state, reset in O(1) per query by bumping the epoch instead of clearing arrays.
+    // A connection settled with k legs dominates any later label for it with k or more legs.
+    private static class Scratch {
+        final int[] epochOf;
+        final byte[] minLegs;
+        int epoch;
+
+        Scratch(int size) {
+            this.epochOf = new int[size];
+            this.minLegs = new byte[size];
+        }
+
+        void nextQuery() {
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(epochOf, 0);
+                epoch = 1;
+            }
+        }
+
+        boolean isSettled(int connection, int legs) {
+            return epochOf[connection] == epoch && minLegs[connection] <= legs;
+        }
+
+        void settle(int connection, int legs) {
+            epochOf[connection] = epoch;
+            minLegs[connection] = (byte) legs;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package educative.AirLineManagement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// Streams a season's schedule from CSV, one flight instance per line:
+//   flightNo,from,to,durationMin,departure(ISO-8601 instant),gate,aircraftCode,baseFare
+// Lines are parsed as they are consumed and instances share their aircraft's seat template,
+// so memory grows with the number of instances, not instances times seats.
+// The stream may be consumed in parallel: flights are kept in a concurrent map, and the caller's airport
+// map and each airport's flight list are only touched under their own locks.
+public class ScheduleLoader {
+    private final Map<String, Airport> airports;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public ScheduleLoader(Map<String, Airport> airports) {
+        this.airports = airports;
+    }
+
+    // Lazily parsed instances; closing the stream closes the reader.
+    public Stream<FlightInstance> stream(Reader source) {
+        BufferedReader reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source, 1 << 16);
+        return reader.lines()
+                .filter(line -> !line.isEmpty() && !line.startsWith("#") && !line.startsWith("flightNo"))
+                .map(this::parse)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    // Registers every instance in the file with the Airline and returns how many were loaded.
+    public long load(Path file) throws IOException {
+        Airline airline = Airline.getInstance();
+        long loaded = 0;
+        try (Stream<FlightInstance> instances = stream(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            for (FlightInstance instance : (Iterable<FlightInstance>) instances::iterator) {
+                Flight flight = instance.getFlight();
+                if (airline.getFlight(flight.getFlightNo()) != flight) {
+                    airline.addFlight(flight);
+                }
+                airline.addFlightInstance(instance);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private FlightInstance parse(String line) {
+        String[] f = line.split(",", -1);
+        if (f.length < 8) {
+            throw new IllegalArgumentException("Expected 8 columns in schedule line: " + line);
+        }
+        Flight flight = flights.computeIfAbsent(f[0], flightNo -> {
+            Airport from = airport(f[1]);
+            Flight created = new Flight(flightNo, Integer.parseInt(f[3]), from, airport(f[2]), new ArrayList<>());
+            synchronized (from) {
+                // An airport built without a flight list has no departures yet
+                if (from.getFlights() == null) {
+                    from.setFlights(new ArrayList<>());
+                }
+                from.getFlights().add(created);
+            }
+            return created;
+        });
+        Aircraft aircraft = Airline.getInstance().getAircraft(f[6]);
+        if (aircraft == null) {
+            throw new IllegalArgumentException("Unknown aircraft " + f[6] + " for flight " + f[0]);
+        }
+        Date departure = Date.from(Instant.parse(f[4]));
+        return new FlightInstance(flight, departure, f[5], FlightStatus.SCHEDULED, aircraft, Double.parseDouble(f[7]));
+    }
+
+    private Airport airport(String code) {
+        synchronized (airports) {
+            return airports.computeIfAbsent(code, c -> new Airport(c, c, null, new ArrayList<>()));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package educative.AirLineManagement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A seat taken out of availability while the customer pays; it either gets confirmed or expires back.
+public class SeatHold {
+    private static final int HELD = 0;
+    private static final int CONFIRMED = 1;
+    private static final int RELEASED = 2;
+
+    private final FlightInstance instance;
+    private final FlightSeat seat;
+    private final int seatIndex;
+    private final long expiresAt;
+    private final AtomicInteger state;
+    private long remainingRounds;
+
+    public SeatHold(FlightInstance instance, FlightSeat seat, int seatIndex, long expiresAt) {
+        this.instance = instance;
+        this.seat = seat;
+        this.seatIndex = seatIndex;
+        this.expiresAt = expiresAt;
+        this.state = new AtomicInteger(HELD);
+    }
+
+    public FlightInstance getInstance() { return instance; }
+    public FlightSeat getSeat() { return seat; }
+    public int getSeatIndex() { return seatIndex; }
+    public long getExpiresAt() { return expiresAt; }
+
+    public boolean isActive() { return state.get() == HELD; }
+    public boolean isConfirmed() { return state.get() == CONFIRMED; }
+
+    long getRemainingRounds() { return remainingRounds; }
+    void setRemainingRounds(long remainingRounds) { this.remainingRounds = remainingRounds; }
+
+    // Confirmation and expiry race on the same CAS, so a paid hold is never handed back to the pool.
+    boolean confirm() {
+        return state.compareAndSet(HELD, CONFIRMED);
+    }
+
+    boolean release() {
+        return state.compareAndSet(HELD, RELEASED);
+    }
+}
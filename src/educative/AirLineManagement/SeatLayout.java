@@ -0,0 +1,60 @@
+package educative.AirLineManagement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable seat plan of one aircraft, shared by every flight instance flown with it (flyweight).
+// Holds everything that does not change per flight: seat numbers, class/type per seat and their bitset masks.
+public class SeatLayout {
+    private final String[] seatNumbers;
+    private final SeatClass[] seatClasses;
+    private final SeatType[] seatTypes;
+    private final long[][] classMasks;
+    private final long[][] typeMasks;
+    private final Map<String, Integer> indexBySeatNumber;
+
+    public SeatLayout(List<? extends Seat> seats) {
+        int size = seats.size();
+        int words = (size + 63) >>> 6;
+        this.seatNumbers = new String[size];
+        this.seatClasses = new SeatClass[size];
+        this.seatTypes = new SeatType[size];
+        this.classMasks = new long[SeatClass.values().length][words];
+        this.typeMasks = new long[SeatType.values().length][words];
+        this.indexBySeatNumber = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            Seat seat = seats.get(i);
+            seatNumbers[i] = seat.getSeatNumber();
+            seatClasses[i] = seat.getSeatClass();
+            seatTypes[i] = seat.getType();
+            classMasks[seat.getSeatClass().ordinal()][i >>> 6] |= 1L << i;
+            typeMasks[seat.getType().ordinal()][i >>> 6] |= 1L << i;
+            indexBySeatNumber.put(seat.getSeatNumber(), i);
+        }
+    }
+
+    public int size() { return seatNumbers.length; }
+    public int words() { return (seatNumbers.length + 63) >>> 6; }
+
+    public String seatNumber(int index) { return seatNumbers[index]; }
+    public SeatClass seatClass(int index) { return seatClasses[index]; }
+    public SeatType seatType(int index) { return seatTypes[index]; }
+
+    public int capacity(SeatClass seatClass) {
+        int count = 0;
+        for (long word : classMask(seatClass)) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int indexOf(String seatNumber) {
+        Integer index = indexBySeatNumber.get(seatNumber);
+        return index == null ? -1 : index;
+    }
+
+    long[] classMask(SeatClass seatClass) { return classMasks[seatClass.ordinal()]; }
+    long[] typeMask(SeatType type) { return typeMasks[type.ordinal()]; }
+}
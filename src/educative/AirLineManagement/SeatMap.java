@@ -0,0 +1,171 @@
+package educative.AirLineManagement;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Per-instance seat state over a shared SeatLayout: two bitsets and, once something is booked,
+// an array of booking owners. Availability is claimed with CAS so concurrent bookers never share a seat.
+public class SeatMap {
+    private final SeatLayout layout;
+    private final AtomicLongArray available;
+    private final AtomicLongArray held;
+    private volatile AtomicReferenceArray<Owner> owners;
+
+    // One booking of a seat. Every markBooked creates a new one, and release compares it by identity, so a
+    // cancel that read the seat before someone else rebooked it cannot free the new booking, even under
+    // the same reservation number.
+    static final class Owner {
+        final String reservationNumber;
+
+        Owner(String reservationNumber) {
+            this.reservationNumber = reservationNumber == null ? "" : reservationNumber;
+        }
+    }
+
+    public SeatMap(SeatLayout layout) {
+        this.layout = layout;
+        int words = layout.words();
+        this.available = new AtomicLongArray(words);
+        this.held = new AtomicLongArray(words);
+        for (int w = 0; w < words; w++) {
+            int bits = Math.min(64, layout.size() - (w << 6));
+            available.set(w, bits == 64 ? -1L : (1L << bits) - 1);
+        }
+    }
+
+    public SeatLayout getLayout() { return layout; }
+
+    public int size() { return layout.size(); }
+
+    public int indexOf(String seatNumber) {
+        return layout.indexOf(seatNumber);
+    }
+
+    public boolean isAvailable(int index) {
+        return (available.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public SeatStatus statusOf(int index) {
+        if (isAvailable(index)) {
+            return SeatStatus.AVAILABLE;
+        }
+        return (held.get(index >>> 6) & (1L << index)) != 0 ? SeatStatus.HELD : SeatStatus.BOOKED;
+    }
+
+    public String reservationNumberOf(int index) {
+        Owner owner = ownerOf(index);
+        return owner == null || owner.reservationNumber.isEmpty() ? null : owner.reservationNumber;
+    }
+
+    // The booking that currently holds the seat, or null when it is not booked
+    Owner ownerOf(int index) {
+        AtomicReferenceArray<Owner> current = owners;
+        return current == null ? null : current.get(index);
+    }
+
+    // Returns the first free seat of the given class (and type, when not null), or -1 if none is left.
+    public int findAvailable(SeatClass seatClass, SeatType type) {
+        long[] classMask = layout.classMask(seatClass);
+        long[] typeMask = type == null ? null : layout.typeMask(type);
+        for (int w = 0; w < classMask.length; w++) {
+            long candidates = available.get(w) & classMask[w];
+            if (typeMask != null) {
+                candidates &= typeMask[w];
+            }
+            if (candidates != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(candidates);
+            }
+        }
+        return -1;
+    }
+
+    public int countAvailable(SeatClass seatClass) {
+        long[] classMask = layout.classMask(seatClass);
+        int count = 0;
+        for (int w = 0; w < classMask.length; w++) {
+            count += Long.bitCount(available.get(w) & classMask[w]);
+        }
+        return count;
+    }
+
+    // Atomically takes the seat out of availability; only one caller can win a given seat.
+    public boolean claim(int index) {
+        return clearBit(available, index);
+    }
+
+    // Claims the first free seat matching the filter, retrying when another booker wins the race.
+    public int claimAvailable(SeatClass seatClass, SeatType type) {
+        while (true) {
+            int index = findAvailable(seatClass, type);
+            if (index < 0 || claim(index)) {
+                return index;
+            }
+        }
+    }
+
+    // The following transitions are only made by the caller that currently owns the claimed seat.
+    public void markHeld(int index) {
+        setBit(held, index);
+    }
+
+    public void markBooked(int index, String reservationNumber) {
+        owners().set(index, new Owner(reservationNumber));
+        clearBit(held, index);
+    }
+
+    // Frees a booked seat only while it still belongs to the booking the caller read with ownerOf.
+    boolean release(int index, Owner owner) {
+        AtomicReferenceArray<Owner> current = owners;
+        if (owner == null || current == null || !current.compareAndSet(index, owner, null)) {
+            return false;
+        }
+        return setBit(available, index);
+    }
+
+    // Frees a held seat; of several callers only the one that clears the held bit puts it back.
+    public boolean releaseHeld(int index) {
+        return clearBit(held, index) && setBit(available, index);
+    }
+
+    private AtomicReferenceArray<Owner> owners() {
+        AtomicReferenceArray<Owner> current = owners;
+        if (current == null) {
+            synchronized (this) {
+                current = owners;
+                if (current == null) {
+                    current = new AtomicReferenceArray<>(layout.size());
+                    owners = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static boolean clearBit(AtomicLongArray bits, int index) {
+        int w = index >>> 6;
+        long bit = 1L << index;
+        while (true) {
+            long current = bits.get(w);
+            if ((current & bit) == 0) {
+                return false;
+            }
+            if (bits.compareAndSet(w, current, current & ~bit)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean setBit(AtomicLongArray bits, int index) {
+        int w = index >>> 6;
+        long bit = 1L << index;
+        while (true) {
+            long current = bits.get(w);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(w, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+}
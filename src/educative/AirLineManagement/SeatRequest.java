@@ -0,0 +1,39 @@
+package educative.AirLineManagement;
+
+// A passenger's request for a seat in one cabin, either seated right away or queued for promotion.
+public class SeatRequest {
+    private final Passenger passenger;
+    private final Account account;
+    private final SeatClass seatClass;
+    private final int loyaltyTier;
+    private final long requestTime;
+    private final long sequence;
+    private final String reservationNumber;
+    private volatile SeatRequestStatus status;
+    private volatile FlightSeat seat;
+
+    public SeatRequest(Passenger passenger, Account account, SeatClass seatClass, int loyaltyTier,
+                       String reservationNumber, long sequence) {
+        this.passenger = passenger;
+        this.account = account;
+        this.seatClass = seatClass;
+        this.loyaltyTier = loyaltyTier;
+        this.requestTime = System.currentTimeMillis();
+        this.sequence = sequence;
+        this.reservationNumber = reservationNumber;
+    }
+
+    public Passenger getPassenger() { return passenger; }
+    public Account getAccount() { return account; }
+    public SeatClass getSeatClass() { return seatClass; }
+    public int getLoyaltyTier() { return loyaltyTier; }
+    public long getRequestTime() { return requestTime; }
+    public long getSequence() { return sequence; }
+    public String getReservationNumber() { return reservationNumber; }
+
+    public SeatRequestStatus getStatus() { return status; }
+    void setStatus(SeatRequestStatus status) { this.status = status; }
+
+    public FlightSeat getSeat() { return seat; }
+    void setSeat(FlightSeat seat) { this.seat = seat; }
+}
@@ -0,0 +1,8 @@
+package educative.AirLineManagement;
+
+public enum SeatRequestStatus {
+    SEATED,
+    OVERSOLD,
+    WAITLISTED,
+    CANCELED
+}
@@ -2,6 +2,7 @@ package educative.AirLineManagement;
 
 public enum SeatStatus {
     AVAILABLE,
+    HELD,
     BOOKED,
     CHANCE
 }
@@ -2,7 +2,7 @@ package educative.AirLineManagement;
 
 public class SmsNotification extends Notification {
 
-    public SmsNotification(int notificationId, String content) {
+    public SmsNotification(long notificationId, String content) {
         super(notificationId, content);
     }
 
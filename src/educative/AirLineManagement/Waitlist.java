@@ -0,0 +1,178 @@
+package educative.AirLineManagement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-instance queue of passengers without a seat, one heap per cabin.
+// Oversold ticket holders are served first, then waitlisted passengers by loyalty tier and request time.
+// Every seat release calls promote() after the seat is back in the map, so no freed seat is missed.
+public class Waitlist {
+    private static final Comparator<SeatRequest> PRIORITY = Comparator
+            .comparingInt(SeatRequest::getLoyaltyTier).reversed()
+            .thenComparingLong(SeatRequest::getRequestTime)
+            .thenComparingLong(SeatRequest::getSequence);
+
+    private final FlightInstance instance;
+    private volatile OverbookingPolicy policy;
+    private final Cabin[] cabins;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean closed;
+
+    public Waitlist(FlightInstance instance, OverbookingPolicy policy) {
+        this.instance = instance;
+        this.policy = policy;
+        this.cabins = new Cabin[SeatClass.values().length];
+        for (int c = 0; c < cabins.length; c++) {
+            cabins[c] = new Cabin();
+        }
+    }
+
+    public OverbookingPolicy getPolicy() { return policy; }
+    public void setPolicy(OverbookingPolicy policy) { this.policy = policy; }
+
+    // Seats the passenger if a seat is free, else sells an oversold ticket within the policy, else waitlists.
+    public SeatRequest request(Passenger passenger, Account account, SeatClass seatClass, int loyaltyTier, String reservationNumber) {
+        SeatRequest request = new SeatRequest(passenger, account, seatClass, loyaltyTier, reservationNumber, sequence.incrementAndGet());
+        Cabin cabin = cabins[seatClass.ordinal()];
+        synchronized (cabin) {
+            if (closed) {
+                request.setStatus(SeatRequestStatus.CANCELED);
+                return request;
+            }
+            if (cabin.oversold.isEmpty() && cabin.activeWaiting == 0 && trySeat(request)) {
+                return request;
+            }
+            int capacity = instance.getSeatMap().getLayout().capacity(seatClass);
+            if (cabin.oversold.size() < policy.oversellAllowance(seatClass, capacity)) {
+                request.setStatus(SeatRequestStatus.OVERSOLD);
+                cabin.oversold.addLast(request);
+            } else {
+                request.setStatus(SeatRequestStatus.WAITLISTED);
+                cabin.waiting.add(request);
+                cabin.activeWaiting++;
+            }
+        }
+        return request;
+    }
+
+    // Lazy removal: the entry stays in its heap and is skipped when it reaches the top.
+    public boolean cancel(SeatRequest request) {
+        Cabin cabin = cabins[request.getSeatClass().ordinal()];
+        synchronized (cabin) {
+            if (request.getStatus() != SeatRequestStatus.WAITLISTED && request.getStatus() != SeatRequestStatus.OVERSOLD) {
+                return false;
+            }
+            if (request.getStatus() == SeatRequestStatus.OVERSOLD) {
+                cabin.oversold.remove(request);
+            } else if (--cabin.activeWaiting == 0) {
+                // Only canceled entries are left; drop them so the heap does not grow across waves of cancels
+                cabin.waiting.clear();
+            }
+            request.setStatus(SeatRequestStatus.CANCELED);
+            return true;
+        }
+    }
+
+    // Called once the instance is canceled. Every queued request is canceled and its passenger told, and later
+    // requests are canceled on arrival. Seated passengers keep their reservations, which are refunded elsewhere.
+    List<SeatRequest> close() {
+        closed = true;
+        List<SeatRequest> dropped = new ArrayList<>();
+        for (Cabin cabin : cabins) {
+            synchronized (cabin) {
+                int from = dropped.size();
+                dropped.addAll(cabin.oversold);
+                for (SeatRequest request : cabin.waiting) {
+                    if (request.getStatus() == SeatRequestStatus.WAITLISTED) {
+                        dropped.add(request);
+                    }
+                }
+                cabin.oversold.clear();
+                cabin.waiting.clear();
+                cabin.activeWaiting = 0;
+                for (int i = from; i < dropped.size(); i++) {
+                    dropped.get(i).setStatus(SeatRequestStatus.CANCELED);
+                }
+            }
+        }
+        for (SeatRequest request : dropped) {
+            notifyCanceled(request);
+        }
+        return dropped;
+    }
+
+    public boolean isClosed() { return closed; }
+
+    public int size(SeatClass seatClass) {
+        Cabin cabin = cabins[seatClass.ordinal()];
+        synchronized (cabin) {
+            return cabin.oversold.size() + cabin.activeWaiting;
+        }
+    }
+
+    // O(log n) per seat handed out.
+    void promote(SeatClass seatClass) {
+        Cabin cabin = cabins[seatClass.ordinal()];
+        synchronized (cabin) {
+            while (!closed) {
+                SeatRequest next = cabin.oversold.peekFirst();
+                boolean fromOversold = next != null;
+                if (!fromOversold) {
+                    next = cabin.waiting.peek();
+                    while (next != null && next.getStatus() != SeatRequestStatus.WAITLISTED) {
+                        cabin.waiting.poll();
+                        next = cabin.waiting.peek();
+                    }
+                }
+                if (next == null || !trySeat(next)) {
+                    return;
+                }
+                if (fromOversold) {
+                    cabin.oversold.pollFirst();
+                } else {
+                    cabin.waiting.poll();
+                    cabin.activeWaiting--;
+                }
+                notifyPromoted(next);
+            }
+        }
+    }
+
+    private boolean trySeat(SeatRequest request) {
+        FlightSeat seat = instance.bookSeat(request.getSeatClass(), null, request.getReservationNumber());
+        if (seat == null) {
+            return false;
+        }
+        request.setSeat(seat);
+        request.setStatus(SeatRequestStatus.SEATED);
+        return true;
+    }
+
+    private void notifyPromoted(SeatRequest request) {
+        if (request.getAccount() != null) {
+            Notification notification = new SmsNotification(request.getSequence(), "Seat " + request.getSeat().getSeatNumber()
+                    + " confirmed on flight " + instance.getFlight().getFlightNo());
+            NotificationDispatcher.getInstance().submit(notification, request.getAccount());
+        }
+    }
+
+    private void notifyCanceled(SeatRequest request) {
+        if (request.getAccount() != null) {
+            Notification notification = new SmsNotification(request.getSequence(), "Flight " + instance.getFlight().getFlightNo()
+                    + " is canceled; your seat request has been withdrawn");
+            NotificationDispatcher.getInstance().submit(notification, request.getAccount());
+        }
+    }
+
+    // Canceled requests stay in the heap until they surface, so emptiness is judged by the live count.
+    private static class Cabin {
+        final Deque<SeatRequest> oversold = new ArrayDeque<>();
+        final PriorityQueue<SeatRequest> waiting = new PriorityQueue<>(PRIORITY);
+        int activeWaiting;
+    }
+}
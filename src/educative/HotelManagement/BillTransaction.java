@@ -8,6 +8,8 @@ public abstract class BillTransaction {
     private Date creationDate;
     private double amount;
     private PaymentStatus status;
+    private String reservationNumber;
+    private String branch;
 
     public abstract void initiateTransaction();
 
@@ -35,4 +37,20 @@ public abstract class BillTransaction {
     public void setStatus(PaymentStatus status) {
         this.status = status;
     }
+
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+
+    public void setReservationNumber(String reservationNumber) {
+        this.reservationNumber = reservationNumber;
+    }
+
+    public String getBranch() {
+        return branch;
+    }
+
+    public void setBranch(String branch) {
+        this.branch = branch;
+    }
 }
\ No newline at end of file
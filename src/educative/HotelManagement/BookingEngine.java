@@ -0,0 +1,179 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Reserves date ranges on rooms and keeps the reservation-number index.
+// The room's night calendar is the only arbiter: a stay is confirmed only if every one of its nights
+// was claimed with CAS, so two bookings can never overlap however many threads race for a room.
+public class BookingEngine {
+    private final Map<String, RoomBooking> bookingsByNumber;
+    private final Map<Integer, Set<RoomBooking>> bookingsByGuest;
+    private final List<BookingListener> listeners;
+    private final AtomicLong sequence;
+    private HotelMetrics metrics;
+
+    private static class Holder {
+        private static final BookingEngine INSTANCE = new BookingEngine();
+    }
+
+    public static BookingEngine getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public BookingEngine() {
+        this.bookingsByNumber = new ConcurrentHashMap<>();
+        this.bookingsByGuest = new ConcurrentHashMap<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.sequence = new AtomicLong();
+        this.metrics = HotelMetrics.getInstance();
+    }
+
+    public void setMetrics(HotelMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void addListener(BookingListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookingListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Priced at the room's flat booking price per night
+    public RoomBooking book(Room room, int guestId, Date startDate, int nights) {
+        return book(room, guestId, startDate, nights, room.getBookingPrice() * nights);
+    }
+
+    // Books the room of a search offer at the offer's price
+    public RoomBooking book(RoomOffer offer, int guestId, Date startDate, int nights) {
+        return book(offer.getRoom(), guestId, startDate, nights, offer.getPrice());
+    }
+
+    // quotedPrice is the stay total the guest was offered, e.g. a RoomOffer's price; the night audit bills it.
+    // Returns null when any night of the stay is already taken
+    public RoomBooking book(Room room, int guestId, Date startDate, int nights, double quotedPrice) {
+        long start = System.nanoTime();
+        LocalDate checkIn = RoomCalendar.nightOf(startDate);
+        if (!room.getCalendar().reserve(checkIn, nights)) {
+            metrics.recordBooking(start, false);
+            return null;
+        }
+        RoomBooking booking = new RoomBooking();
+        booking.setReservationNumber("RB" + sequence.incrementAndGet());
+        booking.setRoom(room);
+        booking.setGuestId(guestId);
+        booking.setStartDate(startDate);
+        booking.setDurationInDays(nights);
+        booking.setQuotedCents(Math.round(quotedPrice * 100));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        bookingsByNumber.put(booking.getReservationNumber(), booking);
+        bookingsByGuest.computeIfAbsent(guestId, id -> ConcurrentHashMap.newKeySet()).add(booking);
+        metrics.recordBooking(start, true);
+        for (BookingListener listener : listeners) {
+            listener.bookingConfirmed(booking);
+        }
+        return booking;
+    }
+
+    public boolean cancel(String reservationNumber) {
+        RoomBooking booking = bookingsByNumber.get(reservationNumber);
+        if (booking == null) {
+            return false;
+        }
+        synchronized (booking) {
+            if (booking.getStatus() != BookingStatus.CONFIRMED || booking.getCheckin() != null) {
+                return false;
+            }
+            booking.setStatus(BookingStatus.CANCELLED);
+        }
+        booking.getRoom().getCalendar().release(RoomCalendar.nightOf(booking.getStartDate()), booking.getDurationInDays());
+        metrics.recordCancellation();
+        for (BookingListener listener : listeners) {
+            listener.bookingCancelled(booking);
+        }
+        return true;
+    }
+
+    // Only during the stay: from the night of arrival up to, but not including, the night of departure
+    public boolean checkin(String reservationNumber) {
+        RoomBooking booking = bookingsByNumber.get(reservationNumber);
+        if (booking == null) {
+            return false;
+        }
+        Date now = new Date();
+        if (!isDuringStay(booking, RoomCalendar.nightOf(now))) {
+            return false;
+        }
+        synchronized (booking) {
+            if (booking.getStatus() != BookingStatus.CONFIRMED || booking.getCheckin() != null || !booking.getRoom().checkin()) {
+                return false;
+            }
+            booking.setCheckin(now);
+        }
+        metrics.recordCheckin(booking.getRoom().getStyle());
+        for (BookingListener listener : listeners) {
+            listener.guestCheckedIn(booking);
+        }
+        return true;
+    }
+
+    // Nights not yet slept are handed back to the calendar on an early checkout
+    public boolean checkout(String reservationNumber) {
+        RoomBooking booking = bookingsByNumber.get(reservationNumber);
+        if (booking == null) {
+            return false;
+        }
+        synchronized (booking) {
+            if (booking.getCheckin() == null || booking.getCheckout() != null || !booking.getRoom().checkout()) {
+                return false;
+            }
+            booking.setCheckout(new Date());
+        }
+        LocalDate end = RoomCalendar.nightOf(booking.getStartDate()).plusDays(booking.getDurationInDays());
+        LocalDate from = firstUnusedNight(booking);
+        if (from.isBefore(end)) {
+            booking.getRoom().getCalendar().release(from, (int) (end.toEpochDay() - from.toEpochDay()));
+        }
+        metrics.recordCheckout(booking.getRoom().getStyle());
+        for (BookingListener listener : listeners) {
+            listener.guestCheckedOut(booking);
+        }
+        return true;
+    }
+
+    static boolean isDuringStay(RoomBooking booking, LocalDate night) {
+        LocalDate checkIn = RoomCalendar.nightOf(booking.getStartDate());
+        return !night.isBefore(checkIn) && night.isBefore(checkIn.plusDays(booking.getDurationInDays()));
+    }
+
+    // First night handed back by a checkout; the night of arrival always counts as used
+    static LocalDate firstUnusedNight(RoomBooking booking) {
+        LocalDate checkIn = RoomCalendar.nightOf(booking.getStartDate());
+        LocalDate leftOn = RoomCalendar.nightOf(booking.getCheckout());
+        return leftOn.isAfter(checkIn) ? leftOn : checkIn.plusDays(1);
+    }
+
+    public RoomBooking find(String reservationNumber) {
+        return bookingsByNumber.get(reservationNumber);
+    }
+
+    public List<RoomBooking> findByGuest(int guestId) {
+        Set<RoomBooking> bookings = bookingsByGuest.get(guestId);
+        return bookings == null ? new ArrayList<>() : new ArrayList<>(bookings);
+    }
+
+    public Collection<RoomBooking> getBookings() {
+        return Collections.unmodifiableCollection(bookingsByNumber.values());
+    }
+}
@@ -0,0 +1,16 @@
+package educative.HotelManagement;
+
+// Hooks called by the BookingEngine after each state change; implement only what is needed
+public interface BookingListener {
+    default void bookingConfirmed(RoomBooking booking) {
+    }
+
+    default void bookingCancelled(RoomBooking booking) {
+    }
+
+    default void guestCheckedIn(RoomBooking booking) {
+    }
+
+    default void guestCheckedOut(RoomBooking booking) {
+    }
+}
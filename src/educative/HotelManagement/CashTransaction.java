@@ -10,7 +10,14 @@ class CashTransaction extends BillTransaction {
     @Override
     public void initiateTransaction() {
         // Cash transaction logic
+        PaymentStatus previous = getStatus();
         setStatus(PaymentStatus.COMPLETED);
+        // A payment missing from the log would surface overnight as a false NO_PAYMENT, so refuse it now
+        if (!TransactionLog.getInstance().append(this)) {
+            setStatus(previous);
+            throw new IllegalStateException("Transaction log is not open; cash payment for " + getReservationNumber()
+                    + " was not recorded");
+        }
         System.out.println("Cash transaction initiated.");
     }
 
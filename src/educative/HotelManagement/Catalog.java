@@ -1,34 +1,98 @@
 package educative.HotelManagement;
 
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Catalog implements Search {
     private List<Room> rooms;
+    private final Map<RoomStyle, List<Room>> roomsByStyle;
+    private final Map<RoomStyle, RateTable> rateTables;
+    private HotelMetrics metrics;
 
     public Catalog() {
         this.rooms = new ArrayList<>();
+        this.roomsByStyle = new EnumMap<>(RoomStyle.class);
+        this.rateTables = new ConcurrentHashMap<>();
+        this.metrics = HotelMetrics.getInstance();
+    }
+
+    // Rooms are added during setup; searches may then run from any number of threads
+    public void addRoom(Room room) {
+        rooms.add(room);
+        roomsByStyle.computeIfAbsent(room.getStyle(), style -> new ArrayList<>()).add(room);
+        metrics.roomAdded(room.getStyle());
     }
 
     @Override
     public List<Room> search(RoomStyle style, Date date, int duration) {
-        // Filter rooms based on style, date, and duration
+        // Only rooms of the style are visited, and each one answers from its night calendar
+        long start = System.nanoTime();
         List<Room> availableRooms = new ArrayList<>();
-        for (Room room : rooms) {
-            if (room.isRoomAvailable() && room.getStyle() == style) {
+        List<Room> candidates = roomsByStyle.get(style);
+        if (candidates == null) {
+            metrics.recordSearch(start);
+            return availableRooms;
+        }
+        LocalDate checkIn = RoomCalendar.nightOf(date);
+        for (Room room : candidates) {
+            if (room.getStatus() != RoomStatus.NOT_AVAILABLE && room.getCalendar().isFree(checkIn, duration)) {
                 availableRooms.add(room);
             }
         }
+        metrics.recordSearch(start);
         return availableRooms; // Return filtered list of rooms
     }
 
+    // Run once a day, e.g. by Hotel.startDailyRoll: moves every room's calendar horizon and the style rate
+    // tables to start at today, so neither runs out. Tables roll first, so a night is already priced
+    // from occupancy when the calendars open it for booking.
+    public void rollForward(LocalDate today) {
+        for (RateTable table : rateTables.values()) {
+            table.rollForward(today);
+        }
+        for (Room room : rooms) {
+            room.getCalendar().rollForward(today);
+        }
+    }
+
+    // Called by RateEngine.register; a style registered again replaces its previous table
+    void registerRateTable(RoomStyle style, RateTable table) {
+        rateTables.put(style, table);
+    }
+
     // Getters and Setters
     public List<Room> getRooms() {
-        return rooms;
+        return Collections.unmodifiableList(rooms);
     }
 
+    public HotelMetrics getMetrics() {
+        return metrics;
+    }
+
+    // The catalog's rooms move to the new metrics' room counts, so each room is counted by exactly one of them
+    public void setMetrics(HotelMetrics metrics) {
+        for (Room room : rooms) {
+            this.metrics.roomRemoved(room.getStyle());
+            metrics.roomAdded(room.getStyle());
+        }
+        this.metrics = metrics;
+    }
+
+    // The old rooms leave the room counts first, so a room that is set again is still counted once
     public void setRooms(List<Room> rooms) {
-        this.rooms = rooms;
+        for (Room room : this.rooms) {
+            metrics.roomRemoved(room.getStyle());
+        }
+        this.rooms = new ArrayList<>();
+        this.roomsByStyle.clear();
+        for (Room room : rooms) {
+            addRoom(room);
+        }
     }
 }
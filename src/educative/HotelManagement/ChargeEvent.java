@@ -0,0 +1,33 @@
+package educative.HotelManagement;
+
+// One line on a guest's folio; amounts are in cents so running totals never drift
+public class ChargeEvent {
+    private final String reservationNumber;
+    private final String category;
+    private final long amountCents;
+    private final long postedAt;
+
+    public ChargeEvent(String reservationNumber, String category, long amountCents) {
+        this.reservationNumber = reservationNumber;
+        this.category = category;
+        this.amountCents = amountCents;
+        this.postedAt = System.currentTimeMillis();
+    }
+
+    // Getters
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public long getPostedAt() {
+        return postedAt;
+    }
+}
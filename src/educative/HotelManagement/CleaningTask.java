@@ -0,0 +1,48 @@
+package educative.HotelManagement;
+
+// One room to clean after a checkout; the earlier the next guest arrives, the more urgent it is
+public class CleaningTask {
+    private final Room room;
+    private final int floor;
+    private final long dueBy;
+    private final long sequence;
+    private final long createdAt;
+
+    public CleaningTask(Room room, int floor, long dueBy, long sequence) {
+        this(room, floor, dueBy, sequence, System.currentTimeMillis());
+    }
+
+    private CleaningTask(Room room, int floor, long dueBy, long sequence, long createdAt) {
+        this.room = room;
+        this.floor = floor;
+        this.dueBy = dueBy;
+        this.sequence = sequence;
+        this.createdAt = createdAt;
+    }
+
+    // The same task, due earlier because a guest has since booked the room
+    CleaningTask dueBy(long earlier) {
+        return new CleaningTask(room, floor, earlier, sequence, createdAt);
+    }
+
+    // Getters
+    public Room getRoom() {
+        return room;
+    }
+
+    public int getFloor() {
+        return floor;
+    }
+
+    public long getDueBy() {
+        return dueBy;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+}
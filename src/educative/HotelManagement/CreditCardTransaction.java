@@ -11,7 +11,14 @@ class CreditCardTransaction extends BillTransaction {
     @Override
     public void initiateTransaction() {
         // Credit Card transaction logic
+        PaymentStatus previous = getStatus();
         setStatus(PaymentStatus.COMPLETED);
+        // A payment missing from the log would surface overnight as a false NO_PAYMENT, so refuse it now
+        if (!TransactionLog.getInstance().append(this)) {
+            setStatus(previous);
+            throw new IllegalStateException("Transaction log is not open; credit card payment for " + getReservationNumber()
+                    + " was not recorded");
+        }
         System.out.println("Credit Card transaction initiated.");
     }
 
@@ -1,8 +1,26 @@
 package educative.HotelManagement;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Driver {
     public static void main(String[] args) {
@@ -28,8 +46,8 @@ public class Driver {
         Room room202 = new Room("202", RoomStyle.DELUXE, RoomStatus.AVAILABLE, 220.0, true);
 
         Catalog catalog = new Catalog();
-        catalog.getRooms().add(room101);
-        catalog.getRooms().add(room202);
+        catalog.addRoom(room101);
+        catalog.addRoom(room202);
         System.out.println("Room catalog initialized with " + catalog.getRooms().size() + " rooms.\n");
 
         // ===============================
@@ -48,16 +66,16 @@ public class Driver {
         guest.setEmail("alice.smith@example.com");
         guest.setPhone("987-654-3210");
 
-        RoomBooking booking = new RoomBooking();
-        booking.setReservationNumber("RS789123");
-        booking.setRoom(room101);
-        booking.setStartDate(new Date());
-        booking.setDurationInDays(2);
-        booking.setStatus(BookingStatus.CONFIRMED);
+        BookingEngine engine = BookingEngine.getInstance();
+        RoomBooking booking = engine.book(room101, 1, new Date(), 2);
 
         guest.getBookings().add(booking);
         System.out.println("Booking confirmed for guest: " + guest.getName());
         System.out.println("Reservation Number: " + booking.getReservationNumber());
+        System.out.println("Fetched by number: room " + RoomBooking.fetchDetails(booking.getReservationNumber()).getRoom().getRoomNumber()
+                + ", second booking for the same nights: " + (engine.book(room101, 2, new Date(), 1) == null ? "rejected" : "accepted"));
+        System.out.println("STANDARD rooms free for the same 2 nights: " + catalog.search(RoomStyle.STANDARD, new Date(), 2).size()
+                + ", a week later: " + catalog.search(RoomStyle.STANDARD, daysFromNow(7), 2).size());
 
         // Step 3: Notifications
         EmailNotification email = new EmailNotification();
@@ -79,21 +97,811 @@ public class Driver {
         // ===============================
         System.out.println("=== Scenario 3: Payment & Checkout Process ===");
 
-        // Step 1: Initiate payment
+        // Step 1: Initiate payment; it is refused while no transaction log is open to record it
         BillTransaction transaction = new CashTransaction();
+        transaction.setReservationNumber(booking.getReservationNumber());
         transaction.setAmount(room101.getBookingPrice());
         transaction.setCreationDate(new Date());
         transaction.setStatus(PaymentStatus.PENDING);
-        transaction.initiateTransaction();
+        try {
+            transaction.initiateTransaction();
+        } catch (IllegalStateException e) {
+            System.out.println("Payment refused: " + e.getMessage());
+        }
+        try {
+            Path paymentsFile = Files.createTempFile("front-desk", ".log");
+            TransactionLog.getInstance().open(paymentsFile);
+            transaction.initiateTransaction();
+            TransactionLog.getInstance().close();
+            Files.deleteIfExists(paymentsFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
         System.out.println("Payment of $" + transaction.getAmount() + " initiated using cash.");
         System.out.println("Transaction status: " + transaction.getStatus());
 
-        // Step 2: Room checkout
-        room101.checkout();
+        // Step 2: Room check-in and checkout; a stay that starts next week cannot be checked into yet
+        RoomBooking nextWeek = engine.book(room202, 1, daysFromNow(7), 2);
+        System.out.println("Check-in a week before arrival: " + (engine.checkin(nextWeek.getReservationNumber()) ? "accepted" : "rejected"));
+        engine.checkin(booking.getReservationNumber());
+        engine.checkout(booking.getReservationNumber());
         System.out.println("Room " + room101.getRoomNumber() + " has been successfully checked out.");
         System.out.println("Room status is now: " + room101.getStatus());
 
+        System.out.println();
+
+        // ===============================
+        // 📅 Scenario 4: Availability Search at Portfolio Scale
+        // ===============================
+        System.out.println("=== Scenario 4: Availability Search at Portfolio Scale ===");
+        searchLargeCatalog(200_000);
+
+        System.out.println();
+
+        // ===============================
+        // 🔒 Scenario 5: Concurrent Bookings on Popular Rooms
+        // ===============================
+        System.out.println("=== Scenario 5: Concurrent Bookings on Popular Rooms ===");
+        stressBookings(64, 4);
+
+        System.out.println();
+
+        // ===============================
+        // 🌐 Scenario 6: Search Across All Branches
+        // ===============================
+        System.out.println("=== Scenario 6: Search Across All Branches ===");
+        searchAllBranches(500, 400);
+
+        System.out.println();
+
+        // ===============================
+        // 💲 Scenario 7: Occupancy and Lead-Time Pricing
+        // ===============================
+        System.out.println("=== Scenario 7: Occupancy and Lead-Time Pricing ===");
+        priceStays();
+
+        System.out.println();
+
+        // ===============================
+        // 🧹 Scenario 8: Peak Checkout Housekeeping
+        // ===============================
+        System.out.println("=== Scenario 8: Peak Checkout Housekeeping ===");
+        runCheckoutPeak(30, 100, 12);
+
+        System.out.println();
+
+        // ===============================
+        // 🔑 Scenario 9: Key Cards and Revocation at Checkout
+        // ===============================
+        System.out.println("=== Scenario 9: Key Cards and Revocation at Checkout ===");
+        runKeyCards();
+
+        System.out.println();
+
+        // ===============================
+        // 🧾 Scenario 10: Folio Charges, Night Audit and Checkout Billing
+        // ===============================
+        System.out.println("=== Scenario 10: Folio Charges, Night Audit and Checkout Billing ===");
+        runFolios(20_000, 5);
+
+        System.out.println();
+
+        // ===============================
+        // 🔍 Scenario 11: Front-Desk Guest Lookup
+        // ===============================
+        System.out.println("=== Scenario 11: Front-Desk Guest Lookup ===");
+        lookUpGuests(1_000_000);
+
+        System.out.println();
+
+        // ===============================
+        // 📊 Scenario 12: Metrics Under Load
+        // ===============================
+        System.out.println("=== Scenario 12: Metrics Under Load ===");
+        watchMetrics(4, 2_000);
+
+        System.out.println();
+
+        // ===============================
+        // 🧮 Scenario 13: Overnight Transaction Reconciliation
+        // ===============================
+        System.out.println("=== Scenario 13: Overnight Transaction Reconciliation ===");
+        reconcileDay(1_000, 300);
+
         System.out.println("\n✅ All hotel operations completed successfully!");
     }
+
+    // 200k rooms, a third of their nights already sold; date-range searches only touch rooms of the style
+    private static void searchLargeCatalog(int roomCount) {
+        Random random = new Random(1);
+        Catalog catalog = new Catalog();
+        RoomStyle[] styles = RoomStyle.values();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room(String.valueOf(i), styles[i % styles.length], RoomStatus.AVAILABLE, 100 + i % 200, false);
+            for (int stay = 0; stay < 20; stay++) {
+                room.getCalendar().reserve(today.plusDays(random.nextInt(180)), 1 + random.nextInt(7));
+            }
+            catalog.addRoom(room);
+        }
+
+        int searches = 200;
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < searches; i++) {
+            found += catalog.search(RoomStyle.DELUXE, daysFromNow(random.nextInt(170)), 1 + random.nextInt(7)).size();
+        }
+        double avgMs = (System.nanoTime() - start) / 1e6 / searches;
+        System.out.printf("Searched %,d rooms %d times: %.2f ms per search, %,d DELUXE rooms free on average%n",
+                roomCount, searches, avgMs, found / searches);
+    }
+
+    // One query fans out to every branch in parallel and comes back as a single price-sorted top 5
+    private static void searchAllBranches(int branchCount, int roomsPerBranch) {
+        Random random = new Random(2);
+        Hotel chain = new Hotel("Ocean View Group");
+        RoomStyle[] styles = RoomStyle.values();
+        LocalDate today = LocalDate.now();
+        for (int b = 0; b < branchCount; b++) {
+            HotelBranch branch = new HotelBranch("Branch " + b, new Address());
+            for (int i = 0; i < roomsPerBranch; i++) {
+                Room room = new Room(b + "-" + i, styles[i % styles.length], RoomStatus.AVAILABLE, 80 + random.nextInt(400), false);
+                for (int stay = 0; stay < 10; stay++) {
+                    room.getCalendar().reserve(today.plusDays(random.nextInt(60)), 1 + random.nextInt(5));
+                }
+                branch.getCatalog().addRoom(room);
+            }
+            chain.addLocation(branch);
+        }
+
+        HotelSearchCoordinator coordinator = new HotelSearchCoordinator(200);
+        Date checkIn = daysFromNow(14);
+        int runs = 20;
+        for (int i = 0; i < runs; i++) { // warm up both paths before timing either
+            coordinator.search(chain.getLocations(), RoomStyle.DELUXE, checkIn, 3, 5);
+            cheapestOneByOne(chain.getLocations(), checkIn, 5);
+        }
+        HotelSearchResult result = null;
+        long fanOutStart = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            result = coordinator.search(chain.getLocations(), RoomStyle.DELUXE, checkIn, 3, 5);
+        }
+        double fanOutMillis = (System.nanoTime() - fanOutStart) / 1e6 / runs;
+
+        // The same work on the calling thread: every branch searched, priced and cut to the cheapest 5
+        List<RoomOffer> sequential = null;
+        long sequentialStart = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            sequential = cheapestOneByOne(chain.getLocations(), checkIn, 5);
+        }
+        double sequentialMillis = (System.nanoTime() - sequentialStart) / 1e6 / runs;
+
+        System.out.printf("Searched %d branches in %.1f ms (one by one: %.1f ms) on %d core(s), timed out: %d, failed: %d%n",
+                branchCount, fanOutMillis, sequentialMillis, Runtime.getRuntime().availableProcessors(),
+                result.getTimedOutBranches().size(), result.getFailedBranches().size());
+        if (result.getOffers().size() != sequential.size()
+                || result.getOffers().get(0).getPrice() != sequential.get(0).getPrice()) {
+            throw new IllegalStateException("Fan-out search disagrees with the one-by-one search");
+        }
+        for (RoomOffer offer : result.getOffers()) {
+            System.out.println("  " + offer);
+        }
+    }
+
+    private static List<RoomOffer> cheapestOneByOne(List<HotelBranch> branches, Date checkIn, int k) {
+        List<RoomOffer> offers = new ArrayList<>();
+        for (HotelBranch branch : branches) {
+            for (Room room : branch.getCatalog().search(RoomStyle.DELUXE, checkIn, 3)) {
+                offers.add(new RoomOffer(branch, room, room.getBookingPrice() * 3));
+            }
+        }
+        offers.sort(Comparator.comparingDouble(RoomOffer::getPrice));
+        return offers.subList(0, Math.min(k, offers.size()));
+    }
+
+    // Rates climb as a week fills up and with booking closer to arrival, updated as each booking lands
+    private static void priceStays() {
+        HotelBranch branch = new HotelBranch("Harbour Branch", new Address());
+        for (int i = 0; i < 50; i++) {
+            // Every tenth room is a corner room at a higher base rate
+            branch.getCatalog().addRoom(new Room("H" + i, RoomStyle.DELUXE, RoomStatus.AVAILABLE, i % 10 == 0 ? 260.0 : 200.0, false));
+        }
+        BookingEngine engine = new BookingEngine();
+        RateEngine rates = new RateEngine();
+        rates.register(branch);
+        engine.addListener(rates);
+        Hotel hotel = new Hotel("Harbour Hotels");
+        hotel.addLocation(branch);
+        hotel.startDailyRoll(); // rolls calendars and rate tables after every midnight
+
+        Room room = branch.getRooms().get(49);
+        Room corner = branch.getRooms().get(0);
+        Date nearStay = daysFromNow(3);
+        Date farStay = daysFromNow(90);
+        System.out.printf("7 nights from day 3: $%.2f, from day 90: $%.2f%n", rates.quote(room, nearStay, 7), rates.quote(room, farStay, 7));
+
+        for (int i = 1; i < 45; i++) {
+            engine.book(branch.getRooms().get(i), i, nearStay, 7);
+        }
+        System.out.printf("After 44 of 50 rooms sold for that week: $%.2f, corner room $%.2f%n",
+                rates.quote(room, nearStay, 7), rates.quote(corner, nearStay, 7));
+
+        int quotes = 1_000_000;
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < quotes; i++) {
+            sink += rates.quote(room, nearStay, 7);
+        }
+        System.out.printf("7-night quote: %.0f ns each (checksum %.0f)%n", (System.nanoTime() - start) / (double) quotes, sink / quotes);
+
+        // A year on, the daily roll has moved the rate tables with the calendars, so nights past the
+        // original horizon are still priced from occupancy rather than the flat booking price
+        hotel.stopDailyRoll();
+        int horizon = room.getCalendar().getNights();
+        Date pastHorizon = daysFromNow(horizon + 30);
+        double before = rates.quote(room, pastHorizon, 7);
+        branch.getCatalog().rollForward(LocalDate.now().plusDays(365));
+        double rolled = rates.quote(room, pastHorizon, 7);
+        for (int i = 1; i <= 40; i++) {
+            engine.book(branch.getRooms().get(i), i, pastHorizon, 7);
+        }
+        System.out.printf("7 nights from day %d: $%.2f before the roll, $%.2f after a year's roll, $%.2f once 40 rooms sold%n",
+                horizon + 30, before, rolled, rates.quote(room, pastHorizon, 7));
+    }
+
+    // Every room checks out at once; housekeepers on a few floors clean the rooms with the earliest arrivals first
+    private static void runCheckoutPeak(int floors, int roomsPerFloor, int housekeepers) {
+        BookingEngine engine = new BookingEngine();
+        HousekeepingScheduler scheduler = new HousekeepingScheduler();
+        engine.addListener(scheduler);
+        Random random = new Random(4);
+
+        List<RoomBooking> stays = new ArrayList<>();
+        Room unbooked = null;
+        for (int f = 1; f <= floors; f++) {
+            for (int r = 1; r <= roomsPerFloor; r++) {
+                // Branch-prefixed numbers still resolve to their floor
+                Room room = new Room("7-" + (f * 100 + r), RoomStyle.STANDARD, RoomStatus.AVAILABLE, 120.0, false);
+                RoomBooking stay = engine.book(room, f * 1000 + r, new Date(), 1);
+                engine.checkin(stay.getReservationNumber());
+                stays.add(stay);
+                if (random.nextInt(3) > 0) {
+                    engine.book(room, 0, daysFromNow(1 + random.nextInt(3)), 2); // next guest arrives in 1-3 days
+                } else if (unbooked == null) {
+                    unbooked = room;
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        for (RoomBooking stay : stays) {
+            engine.checkout(stay.getReservationNumber());
+        }
+        double checkoutMicros = (System.nanoTime() - start) / 1000.0 / stays.size();
+
+        // A walk-in books a room that had no next guest after its cleaning was queued; the task moves up
+        boolean openEnded = scheduler.pendingTask(unbooked).getDueBy() == Long.MAX_VALUE;
+        engine.book(unbooked, 1, daysFromNow(1), 1);
+        Date due = new Date(scheduler.pendingTask(unbooked).getDueBy());
+        System.out.println("Room " + unbooked.getRoomNumber() + " on floor " + unbooked.getFloor() + ": cleaning was "
+                + (openEnded ? "open-ended" : "already due") + ", now due by " + due);
+        if (!openEnded || scheduler.pendingTask(unbooked).getDueBy() == Long.MAX_VALUE) {
+            throw new IllegalStateException("A booking did not bring the cleaning forward");
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(housekeepers);
+        AtomicLong dispatchNanos = new AtomicLong();
+        AtomicInteger stolen = new AtomicInteger();
+        AtomicInteger cleaned = new AtomicInteger();
+        for (int h = 0; h < housekeepers; h++) {
+            Housekeeper housekeeper = new Housekeeper();
+            housekeeper.setName("Housekeeper " + h);
+            int home = 1 + h % 4; // staff only covers the first four floors at 11am
+            scheduler.register(housekeeper, home);
+            pool.execute(() -> {
+                while (true) {
+                    long t0 = System.nanoTime();
+                    CleaningTask task = housekeeper.assignToRoom(scheduler);
+                    dispatchNanos.addAndGet(System.nanoTime() - t0);
+                    if (task == null) {
+                        return;
+                    }
+                    if (task.getFloor() != home) stolen.incrementAndGet();
+                    scheduler.complete(task, housekeeper);
+                    cleaned.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.printf("%d checkouts queued at %.1f us each; %d rooms cleaned, %d stolen across floors, %.1f us per dispatch, %d pending%n",
+                stays.size(), checkoutMicros, cleaned.get(), stolen.get(), dispatchNanos.get() / 1000.0 / Math.max(1, cleaned.get()),
+                scheduler.pendingTasks());
+        if (cleaned.get() != stays.size() || scheduler.pendingTasks() != 0) {
+            throw new IllegalStateException("Cleaning tasks were lost");
+        }
+    }
+
+    // Two cards for a stay and a master key. Cards can't be cut for the next guest's or a cancelled booking,
+    // so the current guest's cards keep working until their checkout voids them
+    private static void runKeyCards() {
+        BookingEngine engine = new BookingEngine();
+        RoomKeyService keys = new RoomKeyService(10_000);
+        engine.addListener(keys);
+
+        Room suite = new Room("1501", RoomStyle.FAMILY_SUITE, RoomStatus.AVAILABLE, 450.0, false);
+        Room neighbour = new Room("1502", RoomStyle.FAMILY_SUITE, RoomStatus.AVAILABLE, 450.0, false);
+        int suiteDoor = keys.register(suite);
+        keys.register(neighbour);
+
+        RoomBooking stay = engine.book(suite, 7, new Date(), 2);
+        engine.checkin(stay.getReservationNumber());
+        RoomKey first = keys.issue(stay);
+        RoomKey second = keys.issue(stay);
+        RoomKey master = keys.issueMaster();
+        System.out.println("Cards " + first.getBarcode() + " and " + second.getBarcode() + " open 1501: "
+                + keys.validate(first, suite) + "/" + keys.validate(second, suite) + ", open 1502: " + keys.validate(first, neighbour));
+
+        long id = Long.parseUnsignedLong(first.getBarcode().substring(0, 16), 16);
+        long mac = Long.parseUnsignedLong(first.getBarcode().substring(16), 16);
+        int taps = 10_000_000;
+        int accepted = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < taps; i++) {
+            if (keys.validate(id, mac, suiteDoor)) accepted++;
+        }
+        double nanos = (System.nanoTime() - start) / (double) taps;
+        int forged = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            if (keys.validate(id, mac + i + 1, suiteDoor)) forged++;
+        }
+
+        RoomBooking nextStay = engine.book(suite, 8, daysFromNow(2), 3);
+        RoomBooking cancelled = engine.book(neighbour, 9, new Date(), 1);
+        engine.cancel(cancelled.getReservationNumber());
+        RoomKey early = keys.issue(nextStay);
+        RoomKey voided = keys.issue(cancelled);
+        System.out.printf("%.1f ns per door tap (%d accepted, %d of a million guessed MACs accepted); "
+                        + "cards cut for the next guest: %b, for a cancelled booking: %b; old cards still open 1501: %b/%b%n",
+                nanos, accepted, forged, early != null, voided != null, keys.validate(first, suite), keys.validate(second, suite));
+        boolean openBeforeCheckout = keys.validate(first, suite) && keys.validate(second, suite);
+
+        engine.checkout(stay.getReservationNumber());
+        RoomKey afterCheckout = keys.issue(stay);
+        System.out.printf("After the guest checks out, their cards open 1501: %b/%b, new cards can be cut for the stay: %b, master: %b%n",
+                keys.validate(first, suite), keys.validate(second, suite), afterCheckout != null, keys.validate(master, suite));
+        if (forged != 0 || first.getBarcode().equals(second.getBarcode()) || early != null || voided != null || afterCheckout != null
+                || !openBeforeCheckout
+                || keys.validate(first, suite) || keys.validate(second, suite) || !keys.validate(master, suite)) {
+            throw new IllegalStateException("Room keys were not revoked or issued as expected");
+        }
+    }
+
+    // Every stay gets room service, amenity and kitchen charges from many threads; the night audit re-adds
+    // every folio and checkout bills from the running total
+    private static void runFolios(int stays, int chargesPerService) {
+        BookingEngine engine = new BookingEngine();
+        InvoiceLedger ledger = InvoiceLedger.getInstance();
+        engine.addListener(ledger);
+
+        // Stays are booked at the rate engine's quote, which is what the night audit bills
+        HotelBranch branch = new HotelBranch("Folio Branch", new Address());
+        for (int i = 0; i < stays; i++) {
+            branch.getCatalog().addRoom(new Room("F" + i, RoomStyle.values()[i % RoomStyle.values().length], RoomStatus.AVAILABLE, 120.0 + i % 80, false));
+        }
+        RateEngine rates = new RateEngine();
+        rates.register(branch);
+        Date today = new Date();
+        List<RoomBooking> bookings = new ArrayList<>(stays);
+        for (Room room : branch.getRooms()) {
+            RoomBooking booking = engine.book(room, bookings.size(), today, 3, rates.quote(room, today, 3));
+            engine.checkin(booking.getReservationNumber());
+            bookings.add(booking);
+        }
+
+        RoomService roomService = new RoomService();
+        roomService.setPrice(18.50);
+        Amenity spa = new Amenity();
+        spa.setName("Spa");
+        spa.setPrice(45.0);
+        KitchenService kitchen = new KitchenService();
+        kitchen.setPrice(12.25);
+        List<Service> services = Arrays.asList(roomService, spa, kitchen);
+
+        long start = System.nanoTime();
+        bookings.parallelStream().forEach(booking -> {
+            Invoice invoice = new Invoice();
+            invoice.setReservationNumber(booking.getReservationNumber());
+            for (int c = 0; c < chargesPerService; c++) {
+                for (Service service : services) {
+                    service.addInvoiceItem(invoice);
+                }
+            }
+        });
+        long posted = (long) stays * chargesPerService * services.size();
+        double chargeNanos = (System.nanoTime() - start) / (double) posted;
+
+        start = System.nanoTime();
+        NightAuditReport audit = ledger.nightAudit();
+        double auditMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("%d charges at %.0f ns each; night audit in %.1f ms: %s%n", posted, chargeNanos, auditMillis, audit);
+        if (audit.getMismatches() != 0) {
+            throw new IllegalStateException("Folio running totals drifted");
+        }
+        NightAuditReport rerun = ledger.nightAudit();
+        System.out.printf("Night audit re-run for the same night: room revenue $%.2f%n", rerun.getRoomRevenueCents() / 100.0);
+        if (rerun.getRoomRevenueCents() != 0) {
+            throw new IllegalStateException("Night audit charged the same night twice");
+        }
+
+        RoomBooking guest = bookings.get(0);
+        start = System.nanoTime();
+        engine.checkout(guest.getReservationNumber());
+        double checkoutMicros = (System.nanoTime() - start) / 1000.0;
+        Invoice bill = guest.getInvoice();
+        double expected = chargesPerService * (18.50 + 45.0 + 12.25) + guest.nightlyCents(LocalDate.now()) / 100.0;
+        System.out.printf("Checkout of %s billed $%.2f in %.1f us (expected $%.2f, first night of a $%.2f quote, list price $%.2f); "
+                        + "later charges accepted: %b, folio still in the ledger: %b%n",
+                guest.getReservationNumber(), bill.getAmount(), checkoutMicros, expected, guest.getQuotedCents() / 100.0,
+                guest.getRoom().getBookingPrice(), ledger.charge(guest.getReservationNumber(), roomService),
+                ledger.getFolio(guest.getReservationNumber()) != null);
+        bill.createBill();
+        if (Math.abs(bill.getAmount() - expected) > 0.001) {
+            throw new IllegalStateException("Invoice does not match the folio");
+        }
+
+        // Charges race the checkouts: every charge the ledger accepted must be on the bill, none in limbo
+        List<RoomBooking> racing = bookings.subList(1, 1_001);
+        AtomicLong acceptedCents = new AtomicLong();
+        CountDownLatch charging = new CountDownLatch(1);
+        Thread charger = new Thread(() -> {
+            for (int round = 0; round < 200; round++) {
+                for (RoomBooking booking : racing) {
+                    if (ledger.charge(booking.getReservationNumber(), "Minibar", 1.0)) {
+                        acceptedCents.addAndGet(100);
+                    }
+                }
+                charging.countDown();
+            }
+        });
+        long openCents = 0;
+        for (RoomBooking booking : racing) {
+            openCents += Math.round(ledger.balance(booking.getReservationNumber()) * 100);
+        }
+        charger.start();
+        try {
+            charging.await();
+            for (RoomBooking booking : racing) {
+                engine.checkout(booking.getReservationNumber());
+            }
+            charger.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long billedCents = 0;
+        for (RoomBooking booking : racing) {
+            billedCents += Math.round(booking.getInvoice().getAmount() * 100);
+        }
+        System.out.printf("%d checkouts raced %d accepted minibar charges; billed $%.2f, expected $%.2f%n",
+                racing.size(), acceptedCents.get() / 100, billedCents / 100.0, (openCents + acceptedCents.get()) / 100.0);
+        if (billedCents != openCents + acceptedCents.get()) {
+            throw new IllegalStateException("An accepted charge missed the bill");
+        }
+        engine.removeListener(ledger);
+    }
+
+    // A day of payments for every branch goes to the transaction log with a few planted errors; the overnight
+    // job must flag exactly those
+    private static void reconcileDay(int branches, int staysPerBranch) {
+        Path file;
+        try {
+            file = Files.createTempFile("bill-transactions", ".log");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TransactionLog log = TransactionLog.getInstance();
+        Map<String, Invoice> invoices = new HashMap<>();
+        Map<MismatchType, Integer> planted = new EnumMap<>(MismatchType.class);
+        Random random = new Random(13);
+        Date today = new Date();
+        int splitStays = 0;
+        try {
+            long start = System.nanoTime();
+            log.open(file);
+            for (int b = 0; b < branches; b++) {
+                String branch = "Branch-" + b;
+                for (int s = 1; s <= staysPerBranch; s++) {
+                    String reservationNumber = branch + "-" + s;
+                    long invoiced = 10_000 + random.nextInt(190_000);
+                    Invoice invoice = new Invoice();
+                    invoice.setReservationNumber(reservationNumber);
+                    invoice.setAmount(invoiced / 100.0);
+                    invoices.put(reservationNumber, invoice);
+                    if (s % 103 == 0) {
+                        planted.merge(MismatchType.NO_PAYMENT, 1, Integer::sum);
+                        continue;
+                    }
+                    int parts = 1 + random.nextInt(3);
+                    long remaining = invoiced;
+                    for (int p = 0; p < parts; p++) {
+                        long cents = p == parts - 1 ? remaining : remaining / 2;
+                        remaining -= cents;
+                        if (p == parts - 1 && s % 97 == 0) {
+                            cents -= 1_000;
+                            planted.merge(MismatchType.UNDERPAID, 1, Integer::sum);
+                        }
+                        // Some guests settle the balance at a sister branch; the stay must still add up
+                        String payingBranch = p == parts - 1 && p > 0 && s % 89 == 0 ? "Branch-" + (b + 1) % branches : branch;
+                        if (!payingBranch.equals(branch)) {
+                            splitStays++;
+                        }
+                        log.append(payment(p, payingBranch, reservationNumber, cents, PaymentStatus.COMPLETED, today));
+                    }
+                    if (s % 101 == 0) {
+                        log.append(payment(0, branch, reservationNumber, 5_000, PaymentStatus.COMPLETED, today));
+                        planted.merge(MismatchType.OVERPAID, 1, Integer::sum);
+                    }
+                    if (s % 107 == 0) {
+                        log.append(payment(2, branch, reservationNumber, invoiced, PaymentStatus.DECLINED, today));
+                    }
+                }
+            }
+            // A walk-in paid through the front desk without a stay on the books
+            BillTransaction walkIn = payment(0, "Branch-0", "Branch-0-WALKIN", 2_500, null, today);
+            walkIn.initiateTransaction();
+            planted.merge(MismatchType.NO_INVOICE, 1, Integer::sum);
+            log.close();
+            double writeSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            ReconciliationReport report = new TransactionReconciler().reconcile(file, invoices);
+            double reconcileSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Logged %d transactions (%.1f MB) in %.2f s; reconciled in %.2f s%n", report.getTransactions(),
+                    Files.size(file) / 1e6, writeSeconds, reconcileSeconds);
+            System.out.println(report);
+            System.out.println("Stays paid at two branches: " + splitStays + "; first flagged: " + report.getMismatches().get(0));
+            if (!report.countByType().equals(planted)) {
+                throw new IllegalStateException("Expected mismatches " + planted + " but found " + report.countByType());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                log.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.out.println("Could not remove " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static BillTransaction payment(int kind, String branch, String reservationNumber, long cents, PaymentStatus status, Date at) {
+        BillTransaction transaction = kind == 0 ? new CashTransaction() : kind == 1 ? new CreditCardTransaction() : new CheckTransaction();
+        transaction.setBranch(branch);
+        transaction.setReservationNumber(reservationNumber);
+        transaction.setAmount(cents / 100.0);
+        transaction.setStatus(status);
+        transaction.setCreationDate(at);
+        return transaction;
+    }
+
+    // Front-desk threads search, book, check in and check out while the reporter prints a snapshot every 250 ms
+    private static void watchMetrics(int threads, int roomCount) {
+        HotelMetrics probe = new HotelMetrics();
+        int events = 10_000_000;
+        double counterNanos = 0;
+        double histogramNanos = 0;
+        // The first round warms up the JIT; the second is the one reported
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                probe.recordCheckin(RoomStyle.STANDARD);
+            }
+            counterNanos = (System.nanoTime() - start) / (double) events;
+            start = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                probe.getSearchLatency().record(i & 0xFFFFF);
+            }
+            histogramNanos = (System.nanoTime() - start) / (double) events;
+        }
+        System.out.printf("Recording cost: %.1f ns per counter event, %.1f ns per latency sample%n", counterNanos, histogramNanos);
+
+        HotelMetrics metrics = new HotelMetrics();
+        Catalog catalog = new Catalog();
+        catalog.setMetrics(metrics);
+        for (int i = 0; i < roomCount; i++) {
+            catalog.addRoom(new Room("M" + i, RoomStyle.values()[i % RoomStyle.values().length], RoomStatus.AVAILABLE, 150.0, false));
+        }
+        BookingEngine engine = new BookingEngine();
+        engine.setMetrics(metrics);
+        metrics.startReporting(250, TimeUnit.MILLISECONDS, snapshot -> System.out.println("  " + snapshot));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            pool.execute(() -> {
+                Random random = new Random(seed);
+                while (System.nanoTime() < deadline) {
+                    RoomStyle style = RoomStyle.values()[random.nextInt(RoomStyle.values().length)];
+                    Date arrival = daysFromNow(random.nextInt(30));
+                    List<Room> free = catalog.search(style, arrival, 2);
+                    Room room = free.isEmpty() ? catalog.getRooms().get(random.nextInt(roomCount)) : free.get(random.nextInt(free.size()));
+                    RoomBooking booking = engine.book(room, seed, arrival, 2);
+                    if (booking != null && random.nextInt(4) == 0 && engine.checkin(booking.getReservationNumber())
+                            && random.nextBoolean()) {
+                        engine.checkout(booking.getReservationNumber());
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.stopReporting();
+        MetricsSnapshot last = metrics.snapshot();
+        System.out.println("Final: " + last);
+        if (last.getSearches() == 0 || last.getBookingAttempts() < last.getBookingConflicts() + last.getCheckins()) {
+            throw new IllegalStateException("Metrics do not add up");
+        }
+    }
+
+    // A million past guests with generated names; the receptionist finds them by prefix, typo, email and phone
+    private static void lookUpGuests(int guestCount) {
+        String[] syllables = {"an", "bel", "cor", "da", "el", "fin", "gar", "hal", "is", "jo", "ka", "lin", "mar", "nor",
+                "os", "per", "quin", "ro", "sa", "tor", "ul", "ven", "wil", "xa", "yor", "zan", "bro", "cla", "dre", "ston"};
+        Random random = new Random(11);
+        // A directory of its own rather than the hotel-wide one, so the million guests are garbage once the scenario ends
+        GuestDirectory directory = new GuestDirectory();
+        long start = System.nanoTime();
+        Guest target = null;
+        for (int i = 0; i < guestCount; i++) {
+            String first = capitalize(syllables[random.nextInt(syllables.length)] + syllables[random.nextInt(syllables.length)]);
+            String last = capitalize(syllables[random.nextInt(syllables.length)] + syllables[random.nextInt(syllables.length)]
+                    + syllables[random.nextInt(syllables.length)]);
+            Guest guest = new Guest();
+            guest.setName(first + " " + last);
+            guest.setEmail(first.toLowerCase() + "." + last.toLowerCase() + i + "@example.com");
+            int number = random.nextInt(10_000_000);
+            guest.setPhone("+1 (" + (200 + random.nextInt(800)) + ") " + (100 + number / 10_000 % 900) + "-" + (1000 + number % 9000));
+            directory.register(guest);
+            if (i == guestCount / 2) {
+                target = guest;
+            }
+        }
+        double registerMicros = (System.nanoTime() - start) / 1000.0 / guestCount;
+        System.out.printf("%d guests registered at %.2f us each, %d terms indexed%n",
+                guestCount, registerMicros, directory.termCount());
+
+        String[] nameParts = target.getName().split(" ");
+        String last = nameParts[1];
+        String typo = last.substring(0, 2) + last.charAt(3) + last.charAt(2) + last.substring(4);
+        String email = target.getEmail();
+        String emailTypo = email.substring(0, 3) + email.substring(4);
+        String[] queries = {
+                nameParts[0] + " " + last,
+                last.substring(0, 4),
+                nameParts[0] + " " + typo,
+                email.substring(0, email.indexOf('@') - 2),
+                emailTypo,
+                target.getPhone(),
+                target.getPhone().substring(0, 9),
+                // A stray letter: the addresses sharing its head are too many to scan in full, which the result reports
+                nameParts[0] + "q",
+        };
+        Receptionist receptionist = new Receptionist();
+        receptionist.setDirectory(directory);
+        // Warm up until the JIT has compiled the search paths; on a single core its compiler threads otherwise
+        // preempt the timed runs for a few milliseconds at a time
+        for (int round = 0; round < 2_000; round++) {
+            for (String query : queries) {
+                receptionist.searchMember(query);
+            }
+        }
+        for (String query : queries) {
+            long[] nanos = new long[1_000];
+            List<Person> found = null;
+            for (int r = 0; r < nanos.length; r++) {
+                start = System.nanoTime();
+                found = receptionist.searchMember(query);
+                nanos[r] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            System.out.printf("  %-36s %3d matches, p50 %7.1f us, p99 %7.1f us, target found: %b%s%n", "\"" + query + "\"", found.size(),
+                    nanos[nanos.length / 2] / 1000.0, nanos[nanos.length * 99 / 100] / 1000.0, found.contains(target),
+                    directory.lookUp(query, GuestDirectory.DEFAULT_LIMIT).isTruncated() ? " (typo scan truncated)" : "");
+        }
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    // Many threads book random stays on the same few rooms; every night may end up with at most one booking
+    private static void stressBookings(int threads, int roomCount) {
+        BookingEngine engine = new BookingEngine();
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(new Room("P" + i, RoomStyle.BUSINESS_SUITE, RoomStatus.AVAILABLE, 400.0, false));
+        }
+        int horizon = 120;
+        List<RoomBooking> confirmed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            final int guestId = t;
+            pool.execute(() -> {
+                Random random = new Random(guestId);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 2_000; i++) {
+                    attempts.incrementAndGet();
+                    Room room = rooms.get(random.nextInt(rooms.size()));
+                    RoomBooking booking = engine.book(room, guestId, daysFromNow(random.nextInt(horizon)), 1 + random.nextInt(5));
+                    if (booking != null) {
+                        confirmed.add(booking);
+                        if (random.nextInt(4) == 0 && engine.cancel(booking.getReservationNumber())) {
+                            confirmed.remove(booking);
+                        }
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Replay the surviving bookings night by night and look for any night sold twice
+        int overlaps = 0;
+        int bookedNights = 0;
+        Map<Room, int[]> nightsSold = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        for (RoomBooking booking : confirmed) {
+            int[] sold = nightsSold.computeIfAbsent(booking.getRoom(), r -> new int[horizon + 8]);
+            int first = (int) (RoomCalendar.nightOf(booking.getStartDate()).toEpochDay() - today.toEpochDay());
+            for (int n = first; n < first + booking.getDurationInDays(); n++) {
+                if (++sold[n] > 1) overlaps++;
+                bookedNights++;
+            }
+        }
+        int calendarNights = 0;
+        for (Room room : rooms) {
+            calendarNights += room.getCalendar().bookedNights(today, today.plusDays(horizon + 8));
+        }
+        System.out.println(threads + " threads made " + attempts.get() + " attempts: " + confirmed.size() + " bookings hold "
+                + bookedNights + " nights, overlapping nights: " + overlaps + ", calendar nights: " + calendarNights);
+        if (overlaps != 0 || bookedNights != calendarNights) {
+            throw new IllegalStateException("Room calendar double-booked a night");
+        }
+
+        // Two years on, the horizon has moved with the date: past stays are gone and the new nights are sellable
+        LocalDate later = today.plusDays(RoomCalendar.DEFAULT_HORIZON_NIGHTS);
+        Room first = rooms.get(0);
+        first.getCalendar().rollForward(later);
+        boolean emptied = first.getCalendar().bookedNights(later, later.plusDays(horizon + 8)) == 0;
+        boolean sellable = first.getCalendar().reserve(later.plusDays(first.getCalendar().getNights() - 1), 1);
+        System.out.println("Calendar rolled forward " + RoomCalendar.DEFAULT_HORIZON_NIGHTS + " nights: old stays cleared " + emptied
+                + ", last night of the new horizon sellable " + sellable);
+    }
+
+    private static Date daysFromNow(int days) {
+        return new Date(System.currentTimeMillis() + days * 24L * 60 * 60 * 1000);
+    }
 }
\ No newline at end of file
@@ -52,3 +52,10 @@ enum PaymentStatus {
     SETTLED,
     REFUNDED
 }
+
+enum MismatchType {
+    UNDERPAID,
+    OVERPAID,
+    NO_INVOICE,
+    NO_PAYMENT
+}
@@ -0,0 +1,71 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Charges of one stay with a running total kept as they are posted
+public class Folio {
+    private final RoomBooking booking;
+    private final ConcurrentLinkedQueue<ChargeEvent> charges;
+    private final AtomicLong totalCents;
+    private final AtomicLong auditedNight;
+    private volatile boolean closed;
+
+    public Folio(RoomBooking booking) {
+        this.booking = booking;
+        this.charges = new ConcurrentLinkedQueue<>();
+        this.totalCents = new AtomicLong();
+        this.auditedNight = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    // Posting and closing share the folio's lock, so a charge either lands before the close and is on the
+    // bill, or is refused; false once the folio is closed
+    synchronized boolean post(ChargeEvent charge) {
+        if (closed) {
+            return false;
+        }
+        charges.add(charge);
+        totalCents.addAndGet(charge.getAmountCents());
+        return true;
+    }
+
+    // True only for the first audit of a given night or later; an audit re-run for the same night gets false
+    boolean markAudited(LocalDate night) {
+        long day = night.toEpochDay();
+        while (true) {
+            long last = auditedNight.get();
+            if (last >= day) {
+                return false;
+            }
+            if (auditedNight.compareAndSet(last, day)) {
+                return true;
+            }
+        }
+    }
+
+    // Returns the final total, read after the last charge that made it in
+    synchronized long close() {
+        closed = true;
+        return totalCents.get();
+    }
+
+    // Getters
+    public RoomBooking getBooking() {
+        return booking;
+    }
+
+    public List<ChargeEvent> getCharges() {
+        return new ArrayList<>(charges);
+    }
+
+    public long getTotalCents() {
+        return totalCents.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -11,6 +11,12 @@ public class Guest extends Person {
         return new ArrayList<>(); // Return guest's bookings list
     }
 
+    // Makes the guest findable at the front desk by name, email and phone
+    public boolean register() {
+        GuestDirectory.getInstance().register(this);
+        return true;
+    }
+
     public boolean createBooking() {
         // Booking creation logic
         System.out.println("Booking created");
@@ -0,0 +1,321 @@
+package educative.HotelManagement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+// Front-desk lookup over every registered guest by name, email or phone. Each field keeps its terms
+// sorted twice, forwards and reversed, so a prefix is one range scan and a query with one typo still
+// has an intact head or tail to scan from. Guests are indexed as they register; searches never lock.
+public class GuestDirectory {
+    public static final int DEFAULT_LIMIT = 50;
+
+    // Upper bound on terms verified per fuzzy scan, so a very short head or tail cannot scan the whole index.
+    // Each candidate costs about 0.1 us, which keeps a worst-case miss well under a millisecond; a scan cut
+    // short is reported through GuestSearchResult.isTruncated rather than passed off as complete.
+    private static final int MAX_FUZZY_CANDIDATES = 2_000;
+
+    private final TermIndex names;
+    private final TermIndex emails;
+    private final TermIndex phones;
+
+    private static class Holder {
+        private static final GuestDirectory INSTANCE = new GuestDirectory();
+    }
+
+    public static GuestDirectory getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public GuestDirectory() {
+        this.names = new TermIndex(false);
+        this.emails = new TermIndex(true);
+        this.phones = new TermIndex(false);
+    }
+
+    public void register(Guest guest) {
+        for (String token : nameTokens(guest.getName())) {
+            names.add(token, guest);
+        }
+        if (guest.getEmail() != null && !guest.getEmail().isEmpty()) {
+            emails.add(guest.getEmail().toLowerCase(Locale.ROOT), guest);
+        }
+        String digits = digitsOf(guest.getPhone());
+        if (!digits.isEmpty()) {
+            phones.add(digits, guest);
+        }
+    }
+
+    public List<Guest> search(String query) {
+        return search(query, DEFAULT_LIMIT);
+    }
+
+    public List<Guest> search(String query, int limit) {
+        return lookUp(query, limit).getGuests();
+    }
+
+    // Exact and prefix matches are returned as they are; guests within one typo of the query are only looked up
+    // when a field has none, which is when the query most likely holds the typo
+    public GuestSearchResult lookUp(String query, int limit) {
+        Set<Guest> found = new LinkedHashSet<>();
+        if (query == null || query.trim().isEmpty() || limit <= 0) {
+            return new GuestSearchResult(new ArrayList<>(), false);
+        }
+        boolean truncated;
+        String trimmed = query.trim();
+        String digits = digitsOf(trimmed);
+        if (trimmed.indexOf('@') >= 0) {
+            truncated = emails.search(trimmed.toLowerCase(Locale.ROOT), guest -> true, found, limit);
+        } else if (digits.length() >= 3 && digits.length() == trimmed.replaceAll("[\\s+().-]", "").length()) {
+            truncated = phones.search(digits, guest -> true, found, limit);
+        } else {
+            List<String> tokens = nameTokens(trimmed);
+            if (tokens.isEmpty()) {
+                return new GuestSearchResult(new ArrayList<>(), false);
+            }
+            // Drive the scan from the longest token, which is usually the most selective, and check the rest per guest
+            String driver = tokens.get(0);
+            for (String token : tokens) {
+                if (token.length() > driver.length()) {
+                    driver = token;
+                }
+            }
+            List<String> others = new ArrayList<>(tokens);
+            others.remove(driver);
+            truncated = names.search(driver, guest -> matchesAll(guest, others), found, limit);
+            // A single word may also be the start of an email address typed without the domain
+            if (found.size() < limit && trimmed.indexOf(' ') < 0) {
+                truncated |= emails.search(trimmed.toLowerCase(Locale.ROOT), guest -> true, found, limit);
+            }
+        }
+        return new GuestSearchResult(new ArrayList<>(found), truncated && found.size() < limit);
+    }
+
+    // Terms are never pruned; a guest who changes details is found under both the old and the new ones
+    public int termCount() {
+        return names.size() + emails.size() + phones.size();
+    }
+
+    private static boolean matchesAll(Guest guest, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return true;
+        }
+        List<String> guestTokens = nameTokens(guest.getName());
+        for (String token : tokens) {
+            boolean matched = false;
+            for (String guestToken : guestTokens) {
+                if (guestToken.startsWith(token) || (token.length() >= TermIndex.MIN_FUZZY_LENGTH
+                        && withinOneEdit(token, guestToken))) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Lower-cased runs of letters and digits; hand-rolled because it runs per candidate guest
+    private static List<String> nameTokens(String name) {
+        List<String> tokens = new ArrayList<>(2);
+        if (name == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++) {
+            boolean part = i < name.length() && Character.isLetterOrDigit(name.charAt(i));
+            if (part && start < 0) {
+                start = i;
+            } else if (!part && start >= 0) {
+                tokens.add(name.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String digitsOf(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    // Restricted Damerau-Levenshtein distance of at most one: one substitution, insertion, deletion or swap
+    static boolean withinOneEdit(String a, String b) {
+        int la = a.length();
+        int lb = b.length();
+        if (Math.abs(la - lb) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < la && i < lb && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (i == la || i == lb) {
+            return true;
+        }
+        if (la == lb) {
+            if (a.regionMatches(i + 1, b, i + 1, la - i - 1)) {
+                return true;
+            }
+            return i + 1 < la && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                    && a.regionMatches(i + 2, b, i + 2, la - i - 2);
+        }
+        return la > lb ? a.regionMatches(i + 1, b, i, lb - i) : b.regionMatches(i + 1, a, i, la - i);
+    }
+
+    private static String reverse(String value) {
+        return new StringBuilder(value).reverse().toString();
+    }
+
+    // Terms of one field, each with the guests that carry it. Email addresses share a handful of domains, so their
+    // tail keys put the domain first and reverse only the local part; otherwise every tail scan would start
+    // from "moc.elpmaxe@" and match most of the index.
+    private static class TermIndex {
+        static final int MIN_FUZZY_LENGTH = 4;
+
+        private final ConcurrentSkipListMap<String, Postings> forward = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, String> reversed = new ConcurrentSkipListMap<>();
+        private final boolean domainFirst;
+
+        TermIndex(boolean domainFirst) {
+            this.domainFirst = domainFirst;
+        }
+
+        private String tailKey(String term) {
+            int at = domainFirst ? term.indexOf('@') : -1;
+            return at < 0 ? reverse(term) : term.substring(at + 1) + "@" + reverse(term.substring(0, at));
+        }
+
+        void add(String term, Guest guest) {
+            Postings postings = forward.get(term);
+            if (postings == null) {
+                Postings created = new Postings();
+                postings = forward.putIfAbsent(term, created);
+                if (postings == null) {
+                    postings = created;
+                    reversed.put(tailKey(term), term);
+                }
+            }
+            postings.add(guest);
+        }
+
+        int size() {
+            return forward.size();
+        }
+
+        // Returns true when a fuzzy scan hit MAX_FUZZY_CANDIDATES, so guests one typo away may be missing
+        boolean search(String query, Predicate<Guest> filter, Set<Guest> found, int limit) {
+            int before = found.size();
+            for (Postings postings : range(forward, query).values()) {
+                if (collect(postings, filter, found, limit)) {
+                    return false;
+                }
+            }
+            if (found.size() > before) {
+                return false;
+            }
+            int at = domainFirst ? query.indexOf('@') : -1;
+            int fuzzyLength = at < 0 ? query.length() : at;
+            if (fuzzyLength < MIN_FUZZY_LENGTH) {
+                return false;
+            }
+            // A single edit leaves either the first half or the second half of the query untouched, except a
+            // swap of the two characters at the midpoint, which is a single exact lookup. Keeping the halves
+            // whole instead of trimming them around the midpoint makes each scan far more selective.
+            int mid = fuzzyLength / 2;
+            char[] swapped = query.toCharArray();
+            swapped[mid - 1] = query.charAt(mid);
+            swapped[mid] = query.charAt(mid - 1);
+            Postings transposed = forward.get(new String(swapped));
+            if (transposed != null && collect(transposed, filter, found, limit)) {
+                return false;
+            }
+            boolean truncated = false;
+            int scanned = 0;
+            for (String term : range(forward, query.substring(0, mid)).keySet()) {
+                if (++scanned > MAX_FUZZY_CANDIDATES) {
+                    truncated = true;
+                    break;
+                }
+                if (!term.startsWith(query) && withinOneEdit(query, term) && collect(forward.get(term), filter, found, limit)) {
+                    return false;
+                }
+            }
+            if (domainFirst && at < 0) {
+                return truncated;
+            }
+            scanned = 0;
+            for (String term : range(reversed, tailKey(query.substring(mid))).values()) {
+                if (++scanned > MAX_FUZZY_CANDIDATES) {
+                    return true;
+                }
+                if (!term.startsWith(query) && withinOneEdit(query, term) && collect(forward.get(term), filter, found, limit)) {
+                    return false;
+                }
+            }
+            return truncated;
+        }
+
+        // Returns true once the result is full
+        private static boolean collect(Postings postings, Predicate<Guest> filter, Set<Guest> found, int limit) {
+            int count = postings.size();
+            Guest[] guests = postings.snapshot();
+            for (int i = 0; i < count; i++) {
+                if (filter.test(guests[i])) {
+                    found.add(guests[i]);
+                    if (found.size() >= limit) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static <V> ConcurrentNavigableMap<String, V> range(ConcurrentSkipListMap<String, V> map, String prefix) {
+            return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+    }
+
+    // Append-only guest list of one term. Readers take the size first, so the array they read next always
+    // holds at least that many guests; a grown array is a full copy made before the size moves past the old one.
+    private static class Postings {
+        private volatile Guest[] guests = new Guest[1];
+        private volatile int size;
+
+        synchronized void add(Guest guest) {
+            Guest[] current = guests;
+            if (size == current.length) {
+                Guest[] grown = new Guest[current.length * 2];
+                System.arraycopy(current, 0, grown, 0, size);
+                guests = grown;
+                current = grown;
+            }
+            current[size] = guest;
+            size = size + 1;
+        }
+
+        int size() {
+            return size;
+        }
+
+        Guest[] snapshot() {
+            return guests;
+        }
+    }
+}
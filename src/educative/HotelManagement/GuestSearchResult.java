@@ -0,0 +1,24 @@
+package educative.HotelManagement;
+
+import java.util.List;
+
+public class GuestSearchResult {
+    private final List<Guest> guests;
+    private final boolean truncated;
+
+    public GuestSearchResult(List<Guest> guests, boolean truncated) {
+        this.guests = guests;
+        this.truncated = truncated;
+    }
+
+    // Getters
+    public List<Guest> getGuests() {
+        return guests;
+    }
+
+    // True when the typo scan stopped at its candidate limit before the result filled up, so a guest one
+    // typo away from the query may be missing; a longer or more specific query avoids it
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -1,12 +1,19 @@
 package educative.HotelManagement;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class Hotel {
     private String name;
     private List<HotelBranch> locations;
+    private volatile ScheduledExecutorService roller;
 
     public Hotel(String name) {
         this.name = name;
@@ -17,6 +24,40 @@ public class Hotel {
         return locations.add(location);
     }
 
+    // Rolls every branch's calendars and rate tables forward now and then just after each local midnight,
+    // until stopDailyRoll; replaces any running roll. The delay is worked out per day so DST shifts don't drift it.
+    public synchronized void startDailyRoll() {
+        stopDailyRoll();
+        roller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hotel-daily-roll");
+            t.setDaemon(true);
+            return t;
+        });
+        roller.execute(this::rollForward);
+    }
+
+    public synchronized void stopDailyRoll() {
+        if (roller != null) {
+            roller.shutdownNow();
+            roller = null;
+        }
+    }
+
+    private void rollForward() {
+        LocalDate today = LocalDate.now();
+        try {
+            for (HotelBranch branch : locations) {
+                branch.getCatalog().rollForward(today);
+            }
+        } finally {
+            ScheduledExecutorService current = roller;
+            if (current != null && !current.isShutdown()) {
+                long untilMidnight = Duration.between(LocalDateTime.now(), today.plusDays(1).atStartOfDay()).toMillis();
+                current.schedule(this::rollForward, Math.max(0, untilMidnight) + 1_000, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
     // Getters and Setters
     public String getName() {
         return name;
@@ -7,14 +7,16 @@ import java.util.ArrayList;
 public class HotelBranch {
     private String name;
     private Address location;
+    private Catalog catalog;
 
     public HotelBranch(String name, Address location) {
         this.name = name;
         this.location = location;
+        this.catalog = new Catalog();
     }
 
     public List<Room> getRooms() {
-        return new ArrayList<>(); // Return actual rooms list
+        return catalog.getRooms();
     }
 
     // Getters and Setters
@@ -33,4 +35,12 @@ public class HotelBranch {
     public void setLocation(Address location) {
         this.location = location;
     }
+
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    public void setCatalog(Catalog catalog) {
+        this.catalog = catalog;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package educative.HotelManagement;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Counters, latency histograms and per-style occupancy for searches, bookings, check-ins and checkouts.
+// Hot paths only increment LongAdders, which stripe under contention instead of bouncing one cache line;
+// everything is summed when a snapshot is taken, on demand or by the reporter thread.
+public class HotelMetrics {
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder bookingAttempts = new LongAdder();
+    private final LongAdder bookingConflicts = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder checkins = new LongAdder();
+    private final LongAdder checkouts = new LongAdder();
+    private final LatencyHistogram searchLatency = new LatencyHistogram();
+    private final LatencyHistogram bookingLatency = new LatencyHistogram();
+    private final Map<RoomStyle, LongAdder> roomsByStyle = new EnumMap<>(RoomStyle.class);
+    private final Map<RoomStyle, LongAdder> occupiedByStyle = new EnumMap<>(RoomStyle.class);
+    private ScheduledExecutorService reporter;
+
+    private static class Holder {
+        private static final HotelMetrics INSTANCE = new HotelMetrics();
+    }
+
+    public static HotelMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    // Both style maps are filled up front and never change shape, so concurrent reads need no locking
+    public HotelMetrics() {
+        for (RoomStyle style : RoomStyle.values()) {
+            roomsByStyle.put(style, new LongAdder());
+            occupiedByStyle.put(style, new LongAdder());
+        }
+    }
+
+    public void roomAdded(RoomStyle style) {
+        roomsByStyle.get(style).increment();
+    }
+
+    public void roomRemoved(RoomStyle style) {
+        roomsByStyle.get(style).decrement();
+    }
+
+    public void recordSearch(long startNanos) {
+        searches.increment();
+        searchLatency.record(System.nanoTime() - startNanos);
+    }
+
+    public void recordBooking(long startNanos, boolean confirmed) {
+        bookingAttempts.increment();
+        if (!confirmed) {
+            bookingConflicts.increment();
+        }
+        bookingLatency.record(System.nanoTime() - startNanos);
+    }
+
+    public void recordCancellation() {
+        cancellations.increment();
+    }
+
+    public void recordCheckin(RoomStyle style) {
+        checkins.increment();
+        occupiedByStyle.get(style).increment();
+    }
+
+    public void recordCheckout(RoomStyle style) {
+        checkouts.increment();
+        occupiedByStyle.get(style).decrement();
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<RoomStyle, Double> occupancy = new EnumMap<>(RoomStyle.class);
+        for (RoomStyle style : RoomStyle.values()) {
+            long rooms = roomsByStyle.get(style).sum();
+            if (rooms > 0) {
+                occupancy.put(style, Math.min(1.0, occupiedByStyle.get(style).sum() / (double) rooms));
+            }
+        }
+        return new MetricsSnapshot(new Date(), searches.sum(), bookingAttempts.sum(), bookingConflicts.sum(),
+                cancellations.sum(), checkins.sum(), checkouts.sum(), searchLatency, bookingLatency, occupancy);
+    }
+
+    // Hands a snapshot to the sink every period until stopReporting; replaces any running reporter
+    public synchronized void startReporting(long period, TimeUnit unit, Consumer<MetricsSnapshot> sink) {
+        stopReporting();
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hotel-metrics-reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> sink.accept(snapshot()), period, period, unit);
+    }
+
+    public synchronized void stopReporting() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+    }
+
+    // Getters
+    public LatencyHistogram getSearchLatency() {
+        return searchLatency;
+    }
+
+    public LatencyHistogram getBookingLatency() {
+        return bookingLatency;
+    }
+}
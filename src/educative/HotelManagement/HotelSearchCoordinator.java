@@ -0,0 +1,115 @@
+package educative.HotelManagement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Scatter/gather search over every branch of a hotel. Branches are searched in batches on the pool, a few
+// batches per worker, so a chain with hundreds of small branches pays a task hand-off per batch rather than
+// per branch. Each branch is trimmed to its own k cheapest offers. Branches that miss the timeout are
+// reported instead of awaited, and branches that throw are reported apart from them.
+public class HotelSearchCoordinator {
+    private static final Comparator<RoomOffer> BY_PRICE = Comparator.comparingDouble(RoomOffer::getPrice);
+    private static final int BATCHES_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final long branchTimeoutMillis;
+    private volatile RateEngine rateEngine;
+
+    public HotelSearchCoordinator(ForkJoinPool pool, long branchTimeoutMillis) {
+        this.pool = pool;
+        this.branchTimeoutMillis = branchTimeoutMillis;
+    }
+
+    // Own pool rather than the common one, which spawns a thread per task on single-core hosts
+    public HotelSearchCoordinator(long branchTimeoutMillis) {
+        this(new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors())), branchTimeoutMillis);
+    }
+
+    // Offers are priced by the rate engine when set, otherwise at each room's flat booking price
+    public void setRateEngine(RateEngine rateEngine) {
+        this.rateEngine = rateEngine;
+    }
+
+    // Returns the k cheapest free rooms across all branches, cheapest first
+    public HotelSearchResult search(List<HotelBranch> branches, RoomStyle style, Date date, int nights, int k) {
+        long start = System.nanoTime();
+        // All branches start together, so one shared deadline is each branch's timeout without a timer per branch
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(branchTimeoutMillis);
+        int count = branches.size();
+        AtomicReferenceArray<List<RoomOffer>> offers = new AtomicReferenceArray<>(count);
+        AtomicReferenceArray<RuntimeException> failures = new AtomicReferenceArray<>(count);
+        int batches = Math.min(count, pool.getParallelism() * BATCHES_PER_WORKER);
+        CountDownLatch done = new CountDownLatch(batches);
+        for (int b = 0; b < batches; b++) {
+            int from = (int) ((long) count * b / batches);
+            int to = (int) ((long) count * (b + 1) / batches);
+            pool.execute(() -> {
+                try {
+                    // A batch that runs past the deadline stops; its remaining branches are reported as timed out
+                    for (int i = from; i < to && System.nanoTime() - deadline < 0; i++) {
+                        try {
+                            offers.set(i, searchBranch(branches.get(i), style, date, nights, k));
+                        } catch (RuntimeException e) {
+                            failures.set(i, e);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            done.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Max-heap of the k cheapest seen so far: the most expensive is evicted first
+        PriorityQueue<RoomOffer> best = new PriorityQueue<>(k + 1, BY_PRICE.reversed());
+        List<HotelBranch> timedOut = new ArrayList<>();
+        List<HotelBranch> failed = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<RoomOffer> branchOffers = offers.get(i);
+            if (branchOffers != null) {
+                for (RoomOffer offer : branchOffers) {
+                    offerTo(best, offer, k);
+                }
+            } else if (failures.get(i) != null) {
+                failed.add(branches.get(i));
+            } else {
+                timedOut.add(branches.get(i));
+            }
+        }
+        List<RoomOffer> merged = new ArrayList<>(best);
+        merged.sort(BY_PRICE);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new HotelSearchResult(merged, Collections.unmodifiableList(timedOut), Collections.unmodifiableList(failed), elapsed);
+    }
+
+    private List<RoomOffer> searchBranch(HotelBranch branch, RoomStyle style, Date date, int nights, int k) {
+        RateEngine rates = rateEngine;
+        PriorityQueue<RoomOffer> best = new PriorityQueue<>(k + 1, BY_PRICE.reversed());
+        for (Room room : branch.getCatalog().search(style, date, nights)) {
+            double price = rates == null ? room.getBookingPrice() * nights : rates.quote(room, date, nights);
+            offerTo(best, new RoomOffer(branch, room, price), k);
+        }
+        return new ArrayList<>(best);
+    }
+
+    private static void offerTo(PriorityQueue<RoomOffer> best, RoomOffer offer, int k) {
+        if (best.size() < k) {
+            best.add(offer);
+        } else if (k > 0 && offer.getPrice() < best.peek().getPrice()) {
+            best.poll();
+            best.add(offer);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package educative.HotelManagement;
+
+import java.util.List;
+
+public class HotelSearchResult {
+    private final List<RoomOffer> offers;
+    private final List<HotelBranch> timedOutBranches;
+    private final List<HotelBranch> failedBranches;
+    private final long elapsedMillis;
+
+    public HotelSearchResult(List<RoomOffer> offers, List<HotelBranch> timedOutBranches, List<HotelBranch> failedBranches,
+                             long elapsedMillis) {
+        this.offers = offers;
+        this.timedOutBranches = timedOutBranches;
+        this.failedBranches = failedBranches;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters
+    public List<RoomOffer> getOffers() {
+        return offers;
+    }
+
+    public List<HotelBranch> getTimedOutBranches() {
+        return timedOutBranches;
+    }
+
+    // Branches whose search threw; they answered in time, so they are not among the timed-out ones
+    public List<HotelBranch> getFailedBranches() {
+        return failedBranches;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
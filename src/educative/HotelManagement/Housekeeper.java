@@ -5,9 +5,9 @@ import java.util.List;
 import java.util.ArrayList;
 
 public class Housekeeper extends Person {
-    public boolean assignToRoom() {
-        System.out.println("Assigned to room");
-        return true;
+    // The next room to clean, from the housekeeper's own floor first; null when nothing is waiting
+    public CleaningTask assignToRoom(HousekeepingScheduler scheduler) {
+        return scheduler.nextTask(this);
     }
 
     // Getters and Setters
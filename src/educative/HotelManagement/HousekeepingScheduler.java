@@ -0,0 +1,138 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Turns checkouts into cleaning tasks, queued per floor and ordered by the next guest's arrival.
+// A booking that lands on a room still waiting to be cleaned moves its task forward.
+// Housekeepers take from their own floor first; when it is empty they steal the most urgent task
+// on any other floor, so no one idles while rooms elsewhere are waiting.
+public class HousekeepingScheduler implements BookingListener {
+    public static final int CHECKIN_HOUR = 15;
+    private static final int DEFAULT_CLEANING_MINUTES = 30;
+    private static final Comparator<CleaningTask> BY_URGENCY = Comparator
+            .comparingLong(CleaningTask::getDueBy)
+            .thenComparingLong(CleaningTask::getSequence);
+
+    private final Map<Integer, PriorityBlockingQueue<CleaningTask>> floors;
+    private final Map<Housekeeper, Integer> homeFloors;
+    // Queued tasks by room; queuing, re-prioritising and taking a task all go through the room's entry
+    private final Map<Room, CleaningTask> pending;
+    private final AtomicLong sequence;
+
+    public HousekeepingScheduler() {
+        this.floors = new ConcurrentHashMap<>();
+        this.homeFloors = new ConcurrentHashMap<>();
+        this.pending = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
+    }
+
+    public void register(Housekeeper housekeeper, int floor) {
+        homeFloors.put(housekeeper, floor);
+    }
+
+    @Override
+    public void guestCheckedOut(RoomBooking booking) {
+        Room room = booking.getRoom();
+        LocalDate next = room.getCalendar().nextBookedNight(BookingEngine.firstUnusedNight(booking));
+        schedule(room, next == null ? Long.MAX_VALUE : arrivalMillis(next));
+    }
+
+    // A room booked after its checkout was queued with no arrival, or a later one; bring its cleaning forward
+    @Override
+    public void bookingConfirmed(RoomBooking booking) {
+        Room room = booking.getRoom();
+        if (!pending.containsKey(room)) {
+            return;
+        }
+        long dueBy = arrivalMillis(RoomCalendar.nightOf(booking.getStartDate()));
+        pending.computeIfPresent(room, (r, task) -> {
+            // A housekeeper who took the task in the meantime keeps it
+            if (dueBy >= task.getDueBy() || !floors.get(task.getFloor()).remove(task)) {
+                return task;
+            }
+            CleaningTask sooner = task.dueBy(dueBy);
+            floors.get(sooner.getFloor()).add(sooner);
+            return sooner;
+        });
+    }
+
+    public CleaningTask schedule(Room room, long dueBy) {
+        CleaningTask task = new CleaningTask(room, room.getFloor(), dueBy, sequence.incrementAndGet());
+        PriorityBlockingQueue<CleaningTask> queue = floors.computeIfAbsent(task.getFloor(),
+                floor -> new PriorityBlockingQueue<>(64, BY_URGENCY));
+        pending.compute(room, (r, previous) -> {
+            queue.add(task);
+            return task;
+        });
+        return task;
+    }
+
+    // The room's queued task, or null once a housekeeper has taken it
+    public CleaningTask pendingTask(Room room) {
+        return pending.get(room);
+    }
+
+    private static long arrivalMillis(LocalDate night) {
+        return night.atTime(CHECKIN_HOUR, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Own floor first, then the most urgent head among the other floors; null when nothing is left
+    public CleaningTask nextTask(Housekeeper housekeeper) {
+        Integer home = homeFloors.get(housekeeper);
+        if (home != null) {
+            PriorityBlockingQueue<CleaningTask> own = floors.get(home);
+            CleaningTask task = own == null ? null : own.poll();
+            if (task != null) {
+                return taken(task);
+            }
+        }
+        while (true) {
+            PriorityBlockingQueue<CleaningTask> victim = null;
+            CleaningTask head = null;
+            for (PriorityBlockingQueue<CleaningTask> queue : floors.values()) {
+                CleaningTask candidate = queue.peek();
+                if (candidate != null && (head == null || BY_URGENCY.compare(candidate, head) < 0)) {
+                    head = candidate;
+                    victim = queue;
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            // Another housekeeper may have taken the head since we looked; take whatever is most urgent there now
+            CleaningTask stolen = victim.poll();
+            if (stolen != null) {
+                return taken(stolen);
+            }
+        }
+    }
+
+    private CleaningTask taken(CleaningTask task) {
+        pending.remove(task.getRoom(), task);
+        return task;
+    }
+
+    public void complete(CleaningTask task, Housekeeper housekeeper) {
+        RoomHousekeeping record = new RoomHousekeeping();
+        record.setDescription("Cleaning after checkout");
+        record.setStartDatetime(new Date(task.getCreatedAt()));
+        record.setDuration(DEFAULT_CLEANING_MINUTES);
+        record.setHousekeeper(housekeeper);
+        record.addHousekeeping(task.getRoom());
+    }
+
+    public int pendingTasks() {
+        int pending = 0;
+        for (PriorityBlockingQueue<CleaningTask> queue : floors.values()) {
+            pending += queue.size();
+        }
+        return pending;
+    }
+}
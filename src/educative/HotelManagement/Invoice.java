@@ -6,9 +6,15 @@ import java.util.ArrayList;
 
 public class Invoice {
     private double amount;
+    private String reservationNumber;
 
     public boolean createBill() {
-        // Bill creation logic
+        // The ledger keeps a running total per open stay, so billing is a single lookup. Once checkout has
+        // closed the folio the amount set then is the final bill and is kept.
+        Folio folio = InvoiceLedger.getInstance().getFolio(reservationNumber);
+        if (folio != null) {
+            this.amount = folio.getTotalCents() / 100.0;
+        }
         System.out.println("Bill created.");
         return true;
     }
@@ -21,4 +27,12 @@ public class Invoice {
     public void setAmount(double amount) {
         this.amount = amount;
     }
+
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+
+    public void setReservationNumber(String reservationNumber) {
+        this.reservationNumber = reservationNumber;
+    }
 }
\ No newline at end of file
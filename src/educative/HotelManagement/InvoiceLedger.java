@@ -0,0 +1,129 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Folios of every stay in the house. Room service, amenity and kitchen charges are appended as they
+// happen and each folio keeps its running total, so checkout bills in O(1) instead of re-adding lines.
+// A folio opens at check-in. At checkout it is closed, its invoice is attached to the booking and it
+// leaves the ledger, so the ledger and the night audit only ever hold stays still in the house.
+public class InvoiceLedger implements BookingListener {
+    public static final String ROOM_CHARGE = "Room";
+
+    private final Map<String, Folio> folios;
+
+    private static class Holder {
+        private static final InvoiceLedger INSTANCE = new InvoiceLedger();
+    }
+
+    public static InvoiceLedger getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public InvoiceLedger() {
+        this.folios = new ConcurrentHashMap<>();
+    }
+
+    public Folio open(RoomBooking booking) {
+        return folios.computeIfAbsent(booking.getReservationNumber(), number -> new Folio(booking));
+    }
+
+    // Returns false for unknown or already closed folios, including one closed while the charge was on its way
+    public boolean charge(String reservationNumber, String category, double amount) {
+        Folio folio = folios.get(reservationNumber);
+        return folio != null && folio.post(new ChargeEvent(reservationNumber, category, Math.round(amount * 100)));
+    }
+
+    public boolean charge(String reservationNumber, Service service) {
+        return charge(reservationNumber, service.getClass().getSimpleName(), service.getPrice());
+    }
+
+    // Open folios only; once a stay is checked out its bill is the invoice on its booking
+    public double balance(String reservationNumber) {
+        Folio folio = folios.get(reservationNumber);
+        return folio == null ? 0 : folio.getTotalCents() / 100.0;
+    }
+
+    public Folio getFolio(String reservationNumber) {
+        return folios.get(reservationNumber);
+    }
+
+    // O(1): the invoice amount is the folio's running total
+    public Invoice closeFolio(String reservationNumber) {
+        Folio folio = folios.remove(reservationNumber);
+        if (folio == null) {
+            return null;
+        }
+        long totalCents = folio.close();
+        Invoice invoice = new Invoice();
+        invoice.setReservationNumber(reservationNumber);
+        invoice.setAmount(totalCents / 100.0);
+        folio.getBooking().setInvoice(invoice);
+        return invoice;
+    }
+
+    public NightAuditReport nightAudit() {
+        return nightAudit(LocalDate.now());
+    }
+
+    // Posts the night's room charge to every open folio and proves each running total, in parallel.
+    // A folio is charged at most once per night, so running the audit again for the same night only re-proves totals.
+    public NightAuditReport nightAudit(LocalDate night) {
+        AuditTotals totals = folios.values().parallelStream()
+                .filter(folio -> !folio.isClosed())
+                .collect(() -> new AuditTotals(night), AuditTotals::audit, AuditTotals::combine);
+        return new NightAuditReport(totals.folios, totals.roomCents, totals.outstandingCents, totals.mismatches, totals.byCategory);
+    }
+
+    @Override
+    public void guestCheckedIn(RoomBooking booking) {
+        open(booking);
+    }
+
+    @Override
+    public void guestCheckedOut(RoomBooking booking) {
+        closeFolio(booking.getReservationNumber());
+    }
+
+    private static class AuditTotals {
+        final LocalDate night;
+        int folios;
+        long roomCents;
+        long outstandingCents;
+        int mismatches;
+        final Map<String, Long> byCategory = new HashMap<>();
+
+        AuditTotals(LocalDate night) {
+            this.night = night;
+        }
+
+        void audit(Folio folio) {
+            if (folio.markAudited(night)) {
+                long roomCharge = folio.getBooking().nightlyCents(night);
+                if (folio.post(new ChargeEvent(folio.getBooking().getReservationNumber(), ROOM_CHARGE, roomCharge))) {
+                    roomCents += roomCharge;
+                }
+            }
+            folios++;
+            long recomputed = 0;
+            for (ChargeEvent charge : folio.getCharges()) {
+                recomputed += charge.getAmountCents();
+                byCategory.merge(charge.getCategory(), charge.getAmountCents(), Long::sum);
+            }
+            outstandingCents += folio.getTotalCents();
+            if (recomputed != folio.getTotalCents()) {
+                mismatches++;
+            }
+        }
+
+        void combine(AuditTotals other) {
+            folios += other.folios;
+            roomCents += other.roomCents;
+            outstandingCents += other.outstandingCents;
+            mismatches += other.mismatches;
+            other.byCategory.forEach((category, cents) -> byCategory.merge(category, cents, Long::sum));
+        }
+    }
+}
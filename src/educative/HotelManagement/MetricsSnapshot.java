@@ -0,0 +1,111 @@
+package educative.HotelManagement;
+
+import java.util.Date;
+import java.util.Map;
+
+// Point-in-time copy of HotelMetrics; counters are totals since startup, latencies are in nanoseconds
+public class MetricsSnapshot {
+    private final Date takenAt;
+    private final long searches;
+    private final long bookingAttempts;
+    private final long bookingConflicts;
+    private final long cancellations;
+    private final long checkins;
+    private final long checkouts;
+    private final long searchP50;
+    private final long searchP99;
+    private final long searchMax;
+    private final long bookingP50;
+    private final long bookingP99;
+    private final long bookingMax;
+    private final Map<RoomStyle, Double> occupancy;
+
+    public MetricsSnapshot(Date takenAt, long searches, long bookingAttempts, long bookingConflicts, long cancellations,
+                           long checkins, long checkouts, LatencyHistogram searchLatency, LatencyHistogram bookingLatency,
+                           Map<RoomStyle, Double> occupancy) {
+        this.takenAt = takenAt;
+        this.searches = searches;
+        this.bookingAttempts = bookingAttempts;
+        this.bookingConflicts = bookingConflicts;
+        this.cancellations = cancellations;
+        this.checkins = checkins;
+        this.checkouts = checkouts;
+        this.searchP50 = searchLatency.valueAtPercentile(50);
+        this.searchP99 = searchLatency.valueAtPercentile(99);
+        this.searchMax = searchLatency.getMax();
+        this.bookingP50 = bookingLatency.valueAtPercentile(50);
+        this.bookingP99 = bookingLatency.valueAtPercentile(99);
+        this.bookingMax = bookingLatency.getMax();
+        this.occupancy = occupancy;
+    }
+
+    // Getters
+    public Date getTakenAt() {
+        return takenAt;
+    }
+
+    public long getSearches() {
+        return searches;
+    }
+
+    public long getBookingAttempts() {
+        return bookingAttempts;
+    }
+
+    public long getBookingConflicts() {
+        return bookingConflicts;
+    }
+
+    public long getCancellations() {
+        return cancellations;
+    }
+
+    public long getCheckins() {
+        return checkins;
+    }
+
+    public long getCheckouts() {
+        return checkouts;
+    }
+
+    public long getSearchP50() {
+        return searchP50;
+    }
+
+    public long getSearchP99() {
+        return searchP99;
+    }
+
+    public long getSearchMax() {
+        return searchMax;
+    }
+
+    public long getBookingP50() {
+        return bookingP50;
+    }
+
+    public long getBookingP99() {
+        return bookingP99;
+    }
+
+    public long getBookingMax() {
+        return bookingMax;
+    }
+
+    public Map<RoomStyle, Double> getOccupancy() {
+        return occupancy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder occupied = new StringBuilder();
+        for (Map.Entry<RoomStyle, Double> entry : occupancy.entrySet()) {
+            occupied.append(occupied.length() == 0 ? "" : ", ").append(entry.getKey())
+                    .append(String.format(" %.0f%%", entry.getValue() * 100));
+        }
+        return String.format("searches=%d (p50 %.1f us, p99 %.1f us, max %.1f us) bookings=%d attempts, %d conflicts "
+                        + "(p50 %.1f us, p99 %.1f us, max %.1f us) cancellations=%d checkins=%d checkouts=%d occupancy [%s]",
+                searches, searchP50 / 1000.0, searchP99 / 1000.0, searchMax / 1000.0, bookingAttempts, bookingConflicts,
+                bookingP50 / 1000.0, bookingP99 / 1000.0, bookingMax / 1000.0, cancellations, checkins, checkouts, occupied);
+    }
+}
@@ -0,0 +1,47 @@
+package educative.HotelManagement;
+
+import java.util.Map;
+
+public class NightAuditReport {
+    private final int openFolios;
+    private final long roomRevenueCents;
+    private final long outstandingCents;
+    private final int mismatches;
+    private final Map<String, Long> centsByCategory;
+
+    public NightAuditReport(int openFolios, long roomRevenueCents, long outstandingCents, int mismatches,
+                            Map<String, Long> centsByCategory) {
+        this.openFolios = openFolios;
+        this.roomRevenueCents = roomRevenueCents;
+        this.outstandingCents = outstandingCents;
+        this.mismatches = mismatches;
+        this.centsByCategory = centsByCategory;
+    }
+
+    // Getters
+    public int getOpenFolios() {
+        return openFolios;
+    }
+
+    public long getRoomRevenueCents() {
+        return roomRevenueCents;
+    }
+
+    public long getOutstandingCents() {
+        return outstandingCents;
+    }
+
+    public int getMismatches() {
+        return mismatches;
+    }
+
+    public Map<String, Long> getCentsByCategory() {
+        return centsByCategory;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d open folios, room revenue $%.2f, outstanding $%.2f, mismatches %d, by category %s",
+                openFolios, roomRevenueCents / 100.0, outstandingCents / 100.0, mismatches, centsByCategory);
+    }
+}
@@ -0,0 +1,98 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Prices stays per branch and room style from occupancy and lead time.
+// Occupancy is counted across the rooms of a style, but the base rate is the quoted room's own
+// bookingPrice; each night is base * occupancy factor, and the whole stay is scaled once by how far
+// ahead it is booked. Bookings update only the nights they touch.
+public class RateEngine implements BookingListener {
+    private static final int MAX_LEAD_DAYS = 365;
+
+    private final double[] occupancyFactor = new double[101];
+    private final double[] leadTimeFactor = new double[MAX_LEAD_DAYS + 1];
+    private final Map<Room, RateTable> tableByRoom;
+
+    public RateEngine() {
+        this.tableByRoom = new ConcurrentHashMap<>();
+        for (int percent = 0; percent <= 100; percent++) {
+            double occupancy = percent / 100.0;
+            occupancyFactor[percent] = 0.85 + 0.65 * occupancy * occupancy;
+        }
+        for (int days = 0; days <= MAX_LEAD_DAYS; days++) {
+            if (days >= 60) {
+                leadTimeFactor[days] = 0.9;
+            } else if (days >= 14) {
+                leadTimeFactor[days] = 1.0 - 0.1 * (days - 14) / 46.0;
+            } else {
+                leadTimeFactor[days] = 1.2 - 0.2 * days / 14.0; // last-minute premium
+            }
+        }
+    }
+
+    // Builds a rate table per room style of the branch from the rooms' current calendars; the branch's
+    // catalog rolls the tables forward with its calendars
+    public void register(HotelBranch branch) {
+        Map<RoomStyle, List<Room>> byStyle = new EnumMap<>(RoomStyle.class);
+        for (Room room : branch.getRooms()) {
+            byStyle.computeIfAbsent(room.getStyle(), style -> new ArrayList<>()).add(room);
+        }
+        for (Map.Entry<RoomStyle, List<Room>> entry : byStyle.entrySet()) {
+            List<Room> rooms = entry.getValue();
+            RoomCalendar calendar = rooms.get(0).getCalendar();
+            RateTable table = new RateTable(rooms, calendar.getFirstNight(), calendar.getNights(), occupancyFactor);
+            for (Room room : rooms) {
+                tableByRoom.put(room, table);
+            }
+            branch.getCatalog().registerRateTable(entry.getKey(), table);
+        }
+    }
+
+    // Total for the stay, or the flat booking price for rooms that were never registered
+    public double quote(Room room, Date checkIn, int nights) {
+        RateTable table = tableByRoom.get(room);
+        LocalDate firstNight = RoomCalendar.nightOf(checkIn);
+        long cents = table == null ? -1 : table.stayCents(room, firstNight, nights);
+        if (cents < 0) {
+            return room.getBookingPrice() * nights;
+        }
+        long lead = firstNight.toEpochDay() - LocalDate.now().toEpochDay();
+        return cents / 100.0 * leadTimeFactor[(int) Math.max(0, Math.min(MAX_LEAD_DAYS, lead))];
+    }
+
+    public RateTable getRateTable(Room room) {
+        return tableByRoom.get(room);
+    }
+
+    @Override
+    public void bookingConfirmed(RoomBooking booking) {
+        adjust(booking, RoomCalendar.nightOf(booking.getStartDate()), booking.getDurationInDays(), 1);
+    }
+
+    @Override
+    public void bookingCancelled(RoomBooking booking) {
+        adjust(booking, RoomCalendar.nightOf(booking.getStartDate()), booking.getDurationInDays(), -1);
+    }
+
+    @Override
+    public void guestCheckedOut(RoomBooking booking) {
+        LocalDate from = BookingEngine.firstUnusedNight(booking);
+        LocalDate end = RoomCalendar.nightOf(booking.getStartDate()).plusDays(booking.getDurationInDays());
+        if (from.isBefore(end)) {
+            adjust(booking, from, (int) (end.toEpochDay() - from.toEpochDay()), -1);
+        }
+    }
+
+    private void adjust(RoomBooking booking, LocalDate from, int nights, int delta) {
+        RateTable table = tableByRoom.get(booking.getRoom());
+        if (table != null) {
+            table.adjust(from, nights, delta);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.StampedLock;
+
+// Occupancy pricing of one room style in one branch over the calendar horizon.
+// Only the rooms sold per night are stored. A night's rate is derived when it is read, as the room's own
+// booking price times the factor for that count, so a booking's single atomic increment is the whole
+// update and a quote can never pair a count with a rate computed from another one.
+// Occupancy is shared by every room of the style; the base price is not.
+// The counts form the same ring as RoomCalendar: a night lives at slot (epoch day mod nights), and
+// rollForward drops the nights before a new first night, zeroing their slots for the nights it adds.
+public class RateTable {
+    private final int capacity;
+    private final double[] factorBySold;
+    private final AtomicIntegerArray sold;
+    private final StampedLock window = new StampedLock();
+    private volatile long firstNight;
+
+    public RateTable(List<Room> rooms, LocalDate firstNight, int nights, double[] occupancyFactor) {
+        this.firstNight = firstNight.toEpochDay();
+        this.capacity = rooms.size();
+        this.factorBySold = new double[capacity + 1];
+        for (int n = 0; n <= capacity; n++) {
+            factorBySold[n] = occupancyFactor[capacity == 0 ? 0 : n * 100 / capacity];
+        }
+        this.sold = new AtomicIntegerArray(nights);
+        for (int i = 0; i < nights; i++) {
+            LocalDate night = firstNight.plusDays(i);
+            int count = 0;
+            for (Room room : rooms) {
+                if (room.getCalendar().isBooked(night)) count++;
+            }
+            sold.set(slot(night.toEpochDay()), count);
+        }
+    }
+
+    // Sum of the room's nightly rates in cents, or -1 if the stay leaves the horizon. Quotes read
+    // optimistically and only retry under the lock if a roll happened meanwhile.
+    public long stayCents(Room room, LocalDate checkIn, int nights) {
+        long stamp = window.tryOptimisticRead();
+        long total = stayCentsInWindow(room.getBookingPrice() * 100, checkIn.toEpochDay(), nights);
+        if (window.validate(stamp)) {
+            return total;
+        }
+        stamp = window.readLock();
+        try {
+            return stayCentsInWindow(room.getBookingPrice() * 100, checkIn.toEpochDay(), nights);
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    private long stayCentsInWindow(double base, long start, int nights) {
+        long first = firstNight;
+        if (start < first || start + nights > first + sold.length()) {
+            return -1;
+        }
+        long total = 0;
+        for (long day = start; day < start + nights; day++) {
+            total += Math.round(base * factorAt(slot(day)));
+        }
+        return total;
+    }
+
+    public int nightlyCents(Room room, LocalDate night) {
+        return (int) stayCents(room, night, 1);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public LocalDate getFirstNight() {
+        return LocalDate.ofEpochDay(firstNight);
+    }
+
+    // delta is +1 when the nights were sold and -1 when they came back; nights outside the horizon are not priced
+    void adjust(LocalDate from, int nights, int delta) {
+        long stamp = window.readLock();
+        try {
+            long first = firstNight;
+            long start = Math.max(first, from.toEpochDay());
+            long end = Math.min(first + sold.length(), from.toEpochDay() + nights);
+            for (long day = start; day < end; day++) {
+                sold.addAndGet(slot(day), delta);
+            }
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    // Drops the nights before the given one and extends the horizon by as many, which start unsold; earlier
+    // dates are ignored. Catalog.rollForward runs it before rolling the rooms' calendars, so the table
+    // already covers a night by the time any room can be booked on it.
+    public void rollForward(LocalDate newFirstNight) {
+        long stamp = window.writeLock();
+        try {
+            long first = firstNight;
+            long target = newFirstNight.toEpochDay();
+            if (target <= first) {
+                return;
+            }
+            long end = Math.min(target, first + sold.length());
+            for (long day = first; day < end; day++) {
+                sold.set(slot(day), 0);
+            }
+            firstNight = target;
+        } finally {
+            window.unlockWrite(stamp);
+        }
+    }
+
+    private int slot(long day) {
+        return (int) Math.floorMod(day, (long) sold.length());
+    }
+
+    // A cancellation can be counted before the booking it undoes, so the count may briefly leave [0, capacity]
+    private double factorAt(int slot) {
+        return factorBySold[Math.max(0, Math.min(capacity, sold.get(slot)))];
+    }
+}
@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.ArrayList;
 
 public class Receptionist extends Person {
+    private GuestDirectory directory = GuestDirectory.getInstance();
+
     public List<Person> searchMember(String name) {
-        return new ArrayList<>(); // Search and return member list
+        return new ArrayList<>(directory.search(name)); // Name, email or phone, prefix or one typo
     }
 
     public boolean createBooking() {
@@ -14,4 +16,13 @@ public class Receptionist extends Person {
         System.out.println("Booking created");
         return true;
     }
+
+    // Getters and Setters
+    public GuestDirectory getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(GuestDirectory directory) {
+        this.directory = directory;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package educative.HotelManagement;
+
+public class ReconciliationMismatch {
+    private final MismatchType type;
+    private final String branch;
+    private final String reservationNumber;
+    private final long invoicedCents;
+    private final long paidCents;
+
+    public ReconciliationMismatch(MismatchType type, String branch, String reservationNumber, long invoicedCents, long paidCents) {
+        this.type = type;
+        this.branch = branch;
+        this.reservationNumber = reservationNumber;
+        this.invoicedCents = invoicedCents;
+        this.paidCents = paidCents;
+    }
+
+    // Getters
+    public MismatchType getType() {
+        return type;
+    }
+
+    public String getBranch() {
+        return branch;
+    }
+
+    public String getReservationNumber() {
+        return reservationNumber;
+    }
+
+    public long getInvoicedCents() {
+        return invoicedCents;
+    }
+
+    public long getPaidCents() {
+        return paidCents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s at %s: invoiced $%.2f, paid $%.2f", type, reservationNumber,
+                branch == null ? "unknown branch" : branch, invoicedCents / 100.0, paidCents / 100.0);
+    }
+}
@@ -0,0 +1,56 @@
+package educative.HotelManagement;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReconciliationReport {
+    private final long transactions;
+    private final int branches;
+    private final long matched;
+    private final long paidCents;
+    private final List<ReconciliationMismatch> mismatches;
+
+    public ReconciliationReport(long transactions, int branches, long matched, long paidCents, List<ReconciliationMismatch> mismatches) {
+        this.transactions = transactions;
+        this.branches = branches;
+        this.matched = matched;
+        this.paidCents = paidCents;
+        this.mismatches = mismatches;
+    }
+
+    public Map<MismatchType, Integer> countByType() {
+        Map<MismatchType, Integer> counts = new EnumMap<>(MismatchType.class);
+        for (ReconciliationMismatch mismatch : mismatches) {
+            counts.merge(mismatch.getType(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    // Getters
+    public long getTransactions() {
+        return transactions;
+    }
+
+    public int getBranches() {
+        return branches;
+    }
+
+    public long getMatched() {
+        return matched;
+    }
+
+    public long getPaidCents() {
+        return paidCents;
+    }
+
+    public List<ReconciliationMismatch> getMismatches() {
+        return mismatches;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d transactions across %d branches, %d stays matched, $%.2f collected, mismatches %s",
+                transactions, branches, matched, paidCents / 100.0, countByType());
+    }
+}
@@ -1,17 +1,21 @@
 package educative.HotelManagement;
 
+import java.util.ArrayDeque;
 import java.util.Date;
 import java.util.List;
 import java.util.ArrayList;
 
 public class Room {
+    public static final int MAX_HOUSEKEEPING_RECORDS = 32;
+
     private String roomNumber;
     private RoomStyle style;
-    private RoomStatus status;
+    private volatile RoomStatus status;
     private double bookingPrice;
     private boolean isSmoking;
     private List<RoomKey> keys;
-    private List<RoomHousekeeping> housekeepingLog;
+    private final ArrayDeque<RoomHousekeeping> housekeepingLog;
+    private RoomCalendar calendar;
 
     public Room(String roomNumber, RoomStyle style, RoomStatus status, double bookingPrice, boolean isSmoking) {
         this.roomNumber = roomNumber;
@@ -20,23 +24,48 @@ public class Room {
         this.bookingPrice = bookingPrice;
         this.isSmoking = isSmoking;
         this.keys = new ArrayList<>();
-        this.housekeepingLog = new ArrayList<>();
+        this.housekeepingLog = new ArrayDeque<>();
+        this.calendar = new RoomCalendar();
     }
 
     public boolean isRoomAvailable() {
         return status == RoomStatus.AVAILABLE; // Check room availability
     }
 
-    public boolean checkin() {
+    public synchronized boolean checkin() {
+        if (status == RoomStatus.OCCUPIED || status == RoomStatus.NOT_AVAILABLE) {
+            return false; // Someone is still in the room, or it is out of order
+        }
         this.status = RoomStatus.OCCUPIED;
         return true;
     }
 
-    public boolean checkout() {
+    public synchronized boolean checkout() {
+        if (status != RoomStatus.OCCUPIED) {
+            return false;
+        }
         this.status = RoomStatus.AVAILABLE;
         return true;
     }
 
+    public synchronized void addHousekeeping(RoomHousekeeping record) {
+        if (housekeepingLog.size() == MAX_HOUSEKEEPING_RECORDS) {
+            housekeepingLog.removeFirst();
+        }
+        housekeepingLog.addLast(record);
+    }
+
+    // Rooms are numbered by floor: 101-199 on floor 1, 1204 on floor 12. A prefix such as a branch or wing code
+    // is skipped, so "40-225" is on floor 2; names without a room number of at least three digits are floor 0
+    public int getFloor() {
+        int end = roomNumber.length();
+        int start = end;
+        while (start > 0 && Character.isDigit(roomNumber.charAt(start - 1))) {
+            start--;
+        }
+        return end - start < 3 ? 0 : Integer.parseInt(roomNumber.substring(start, end - 2));
+    }
+
     // Getters and Setters
     public String getRoomNumber() {
         return roomNumber;
@@ -86,11 +115,22 @@ public class Room {
         this.keys = keys;
     }
 
-    public List<RoomHousekeeping> getHousekeepingLog() {
-        return housekeepingLog;
+    public synchronized List<RoomHousekeeping> getHousekeepingLog() {
+        return new ArrayList<>(housekeepingLog);
+    }
+
+    public synchronized void setHousekeepingLog(List<RoomHousekeeping> housekeepingLog) {
+        this.housekeepingLog.clear();
+        for (RoomHousekeeping record : housekeepingLog) {
+            addHousekeeping(record);
+        }
+    }
+
+    public RoomCalendar getCalendar() {
+        return calendar;
     }
 
-    public void setHousekeepingLog(List<RoomHousekeeping> housekeepingLog) {
-        this.housekeepingLog = housekeepingLog;
+    public void setCalendar(RoomCalendar calendar) {
+        this.calendar = calendar;
     }
 }
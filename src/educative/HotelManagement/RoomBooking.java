@@ -1,5 +1,6 @@
 package educative.HotelManagement;
 
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 import java.util.ArrayList;
@@ -15,9 +16,20 @@ public class RoomBooking {
     private Room room;
     private Invoice invoice;
     private List<Notification> notifications;
+    private long quotedCents;
 
     public static RoomBooking fetchDetails(String reservationNumber) {
-        return new RoomBooking(); // Return RoomBooking details by reservation number
+        return BookingEngine.getInstance().find(reservationNumber); // null when the number is unknown
+    }
+
+    // The night's share of the price quoted at booking, split so the nights add up to the quote to the cent.
+    // A night outside the booked stay is billed at the room's own price.
+    public long nightlyCents(LocalDate night) {
+        long i = night.toEpochDay() - RoomCalendar.nightOf(startDate).toEpochDay();
+        if (i < 0 || i >= durationInDays) {
+            return Math.round(room.getBookingPrice() * 100);
+        }
+        return quotedCents * (i + 1) / durationInDays - quotedCents * i / durationInDays;
     }
 
     // Getters and Setters
@@ -100,4 +112,12 @@ public class RoomBooking {
     public void setNotifications(List<Notification> notifications) {
         this.notifications = notifications;
     }
+
+    public long getQuotedCents() {
+        return quotedCents;
+    }
+
+    public void setQuotedCents(long quotedCents) {
+        this.quotedCents = quotedCents;
+    }
 }
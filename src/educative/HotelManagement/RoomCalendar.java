@@ -0,0 +1,260 @@
+package educative.HotelManagement;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+
+// Booked nights of one room as a ring of bits. A night lives at bit (epoch day mod capacity), so every
+// calendar places a date at the same slot whenever it was created; the horizon is the window of
+// capacity nights starting at firstNight. Checking a stay only reads the one to three words it covers.
+// rollForward moves the window to a later first night and clears the slots of the nights it drops, which
+// are the slots the newly covered nights reuse. Bookings and releases share a read lock so that a roll,
+// which takes the write lock, never sees a stay half-written against the old window.
+public class RoomCalendar {
+    public static final int DEFAULT_HORIZON_NIGHTS = 730;
+
+    private final int nights;
+    private final AtomicLongArray booked;
+    private final StampedLock window = new StampedLock();
+    private volatile long firstNight;
+
+    // The horizon is rounded up to whole words of nights
+    public RoomCalendar(LocalDate firstNight, int nights) {
+        this.booked = new AtomicLongArray((nights + 63) >>> 6);
+        this.nights = booked.length() << 6;
+        this.firstNight = firstNight.toEpochDay();
+    }
+
+    public RoomCalendar() {
+        this(LocalDate.now(), DEFAULT_HORIZON_NIGHTS);
+    }
+
+    public static LocalDate nightOf(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    // Nights outside the calendar's horizon are never free. Searches read optimistically and only
+    // retry under the lock if a roll happened meanwhile.
+    public boolean isFree(LocalDate checkIn, int stayNights) {
+        long stamp = window.tryOptimisticRead();
+        boolean free = freeInWindow(checkIn.toEpochDay(), stayNights);
+        if (window.validate(stamp)) {
+            return free;
+        }
+        stamp = window.readLock();
+        try {
+            return freeInWindow(checkIn.toEpochDay(), stayNights);
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    private boolean freeInWindow(long start, int stayNights) {
+        if (!inWindow(start, stayNights)) {
+            return false;
+        }
+        int from = slot(start);
+        int to = from + stayNights;
+        return !anyBooked(from, Math.min(to, nights)) && (to <= nights || !anyBooked(0, to - nights));
+    }
+
+    public boolean isBooked(LocalDate night) {
+        long day = night.toEpochDay();
+        long stamp = window.readLock();
+        try {
+            int i = slot(day);
+            return inWindow(day, 1) && (booked.get(i >>> 6) & (1L << i)) != 0;
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    // Takes every night of the stay or none: words are claimed in order with CAS and rolled back on conflict.
+    // Two overlapping attempts can both back off, but never both succeed.
+    public boolean reserve(LocalDate checkIn, int stayNights) {
+        long stamp = window.readLock();
+        try {
+            long start = checkIn.toEpochDay();
+            if (!inWindow(start, stayNights)) {
+                return false;
+            }
+            int from = slot(start);
+            int to = from + stayNights;
+            if (!claimRange(from, Math.min(to, nights))) {
+                return false;
+            }
+            if (to > nights && !claimRange(0, to - nights)) {
+                clearRange(from, nights);
+                return false;
+            }
+            return true;
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    // Only the owner of the stay may release it. Nights the window has already rolled past are left alone.
+    public void release(LocalDate checkIn, int stayNights) {
+        long stamp = window.readLock();
+        try {
+            long first = firstNight;
+            long start = Math.max(first, checkIn.toEpochDay());
+            long end = Math.min(first + nights, checkIn.toEpochDay() + stayNights);
+            if (start >= end) {
+                return;
+            }
+            int from = slot(start);
+            int to = from + (int) (end - start);
+            clearRange(from, Math.min(to, nights));
+            if (to > nights) {
+                clearRange(0, to - nights);
+            }
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    // Drops the nights before the given one and extends the horizon by as many; earlier dates are ignored.
+    // Meant to run once a day, e.g. from Catalog.rollForward after midnight.
+    public void rollForward(LocalDate newFirstNight) {
+        long stamp = window.writeLock();
+        try {
+            long first = firstNight;
+            long target = newFirstNight.toEpochDay();
+            if (target <= first) {
+                return;
+            }
+            int dropped = (int) Math.min(nights, target - first);
+            int from = slot(first);
+            int to = from + dropped;
+            clearRange(from, Math.min(to, nights));
+            if (to > nights) {
+                clearRange(0, to - nights);
+            }
+            firstNight = target;
+        } finally {
+            window.unlockWrite(stamp);
+        }
+    }
+
+    // First booked night on or after the given one, or null if the rest of the horizon is free
+    public LocalDate nextBookedNight(LocalDate from) {
+        long stamp = window.readLock();
+        try {
+            long first = firstNight;
+            for (long day = Math.max(first, from.toEpochDay()); day < first + nights; ) {
+                int i = slot(day);
+                long bits = booked.get(i >>> 6) & (-1L << i);
+                if (bits != 0) {
+                    long next = day + Long.numberOfTrailingZeros(bits) - (i & 63);
+                    return next < first + nights ? LocalDate.ofEpochDay(next) : null;
+                }
+                day += 64 - (i & 63);
+            }
+            return null;
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    public int bookedNights(LocalDate from, LocalDate to) {
+        long stamp = window.readLock();
+        try {
+            long first = firstNight;
+            long start = Math.max(first, from.toEpochDay());
+            long end = Math.min(first + nights, to.toEpochDay());
+            if (start >= end) {
+                return 0;
+            }
+            int lo = slot(start);
+            int hi = lo + (int) (end - start);
+            return countBooked(lo, Math.min(hi, nights)) + (hi > nights ? countBooked(0, hi - nights) : 0);
+        } finally {
+            window.unlockRead(stamp);
+        }
+    }
+
+    public LocalDate getFirstNight() {
+        return LocalDate.ofEpochDay(firstNight);
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    private boolean inWindow(long start, int stayNights) {
+        long first = firstNight;
+        return stayNights > 0 && start >= first && start + stayNights <= first + nights;
+    }
+
+    private int slot(long day) {
+        return (int) Math.floorMod(day, (long) nights);
+    }
+
+    // Bits of word w that fall inside slots [from, to).
+    private static long mask(int w, int from, int to) {
+        int lo = Math.max(from, w << 6) - (w << 6);
+        int hi = Math.min(to, (w + 1) << 6) - (w << 6);
+        long upper = hi == 64 ? -1L : (1L << hi) - 1;
+        return upper & (-1L << lo);
+    }
+
+    private boolean anyBooked(int from, int to) {
+        for (int w = from >>> 6; from < to && w <= (to - 1) >>> 6; w++) {
+            if ((booked.get(w) & mask(w, from, to)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int countBooked(int from, int to) {
+        int count = 0;
+        for (int w = from >>> 6; from < to && w <= (to - 1) >>> 6; w++) {
+            count += Long.bitCount(booked.get(w) & mask(w, from, to));
+        }
+        return count;
+    }
+
+    private boolean claimRange(int from, int to) {
+        int first = from >>> 6;
+        for (int w = first; w <= (to - 1) >>> 6; w++) {
+            if (!claim(w, mask(w, from, to))) {
+                for (int undo = first; undo < w; undo++) {
+                    clear(undo, mask(undo, from, to));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clearRange(int from, int to) {
+        for (int w = from >>> 6; from < to && w <= (to - 1) >>> 6; w++) {
+            clear(w, mask(w, from, to));
+        }
+    }
+
+    private boolean claim(int w, long mask) {
+        while (true) {
+            long current = booked.get(w);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (booked.compareAndSet(w, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private void clear(int w, long mask) {
+        while (true) {
+            long current = booked.get(w);
+            if (booked.compareAndSet(w, current, current & ~mask)) {
+                return;
+            }
+        }
+    }
+}
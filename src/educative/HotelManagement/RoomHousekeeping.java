@@ -11,7 +11,7 @@ public class RoomHousekeeping {
     private Housekeeper housekeeper;
 
     public boolean addHousekeeping(Room room) {
-        // Logic to assign housekeeping task to room
+        room.addHousekeeping(this); // The room keeps only its most recent records
         return true;
     }
 
@@ -0,0 +1,177 @@
+package educative.HotelManagement;
+
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Issues room keys as 128-bit tokens. The first 64 bits are the key id: room slot (24 bits), room
+// generation (24 bits) and a per-card serial (16 bits). The other 64 are a SipHash-2-4 MAC of the
+// id under the service's secret.
+// A door accepts a token when the MAC verifies, the id names the door's slot and it carries the slot's
+// current generation: one keyed hash, one array read and two comparisons.
+// A generation belongs to one booking. Cutting keys for a different booking, which must be under way,
+// moves the room to a new generation, and so does that booking's checkout. Either way every key cut for the room before it stops
+// working at once, without looking at any of them.
+public class RoomKeyService implements BookingListener {
+    private static final int MASTER_SLOT = 0xFFFFFF;
+    private static final int GENERATION_MASK = 0xFFFFFF;
+
+    private final AtomicIntegerArray generations;
+    private final AtomicReferenceArray<String> holders;
+    private final Map<Room, Integer> slots;
+    private final AtomicInteger nextSlot;
+    private final AtomicInteger masterGeneration;
+    private final AtomicInteger keySequence;
+    private final long k0;
+    private final long k1;
+
+    public RoomKeyService(int maxRooms) {
+        if (maxRooms >= MASTER_SLOT) {
+            throw new IllegalArgumentException("At most " + (MASTER_SLOT - 1) + " rooms per key service");
+        }
+        this.generations = new AtomicIntegerArray(maxRooms);
+        this.holders = new AtomicReferenceArray<>(maxRooms);
+        this.slots = new ConcurrentHashMap<>();
+        this.nextSlot = new AtomicInteger();
+        this.masterGeneration = new AtomicInteger();
+        this.keySequence = new AtomicInteger();
+        SecureRandom random = new SecureRandom();
+        this.k0 = random.nextLong();
+        this.k1 = random.nextLong();
+    }
+
+    // Doors are programmed with their room's slot once, at setup
+    public int register(Room room) {
+        return slots.computeIfAbsent(room, r -> {
+            int slot = nextSlot.getAndIncrement();
+            if (slot >= generations.length()) {
+                throw new IllegalStateException("Key service is full");
+            }
+            return slot;
+        });
+    }
+
+    // The first key for a booking revokes whatever was cut for the room before, even if that guest has
+    // not checked out yet; further keys for the same booking share its generation.
+    // Keys are only cut for a confirmed booking that has not checked out, during the nights BookingEngine
+    // would check it in; otherwise this returns null and the room's current cards keep working.
+    public RoomKey issue(RoomBooking booking) {
+        Room room = booking.getRoom();
+        int slot = register(room);
+        String holder = booking.getReservationNumber();
+        int generation;
+        synchronized (booking) {
+            if (booking.getStatus() != BookingStatus.CONFIRMED || booking.getCheckout() != null
+                    || !BookingEngine.isDuringStay(booking, RoomCalendar.nightOf(new Date()))) {
+                return null;
+            }
+            synchronized (room) {
+                if (!holder.equals(holders.get(slot))) {
+                    generations.incrementAndGet(slot);
+                    holders.set(slot, holder);
+                }
+                generation = generations.get(slot);
+            }
+        }
+        return newKey(slot, generation, false);
+    }
+
+    public RoomKey issueMaster() {
+        return newKey(MASTER_SLOT, masterGeneration.get(), true);
+    }
+
+    // O(1): every key cut for the room before this call stops working, e.g. for a reported lost card
+    public void revokeAll(Room room) {
+        Integer slot = slots.get(room);
+        if (slot != null) {
+            synchronized (room) {
+                generations.incrementAndGet(slot);
+                holders.set(slot, null);
+            }
+        }
+    }
+
+    public void revokeMasters() {
+        masterGeneration.incrementAndGet();
+    }
+
+    // The door tap path
+    public boolean validate(long id, long mac, int doorSlot) {
+        if (sipHash(k0, k1, id) != mac) {
+            return false;
+        }
+        int slot = (int) (id >>> 40);
+        int generation = (int) (id >>> 16) & GENERATION_MASK;
+        if (slot == MASTER_SLOT) {
+            return generation == (masterGeneration.get() & GENERATION_MASK);
+        }
+        return slot == doorSlot && generation == (generations.get(slot) & GENERATION_MASK);
+    }
+
+    public boolean validate(RoomKey key, Room door) {
+        Integer slot = slots.get(door);
+        String barcode = key.getBarcode();
+        return slot != null && barcode != null && barcode.length() == 32
+                && validate(Long.parseUnsignedLong(barcode.substring(0, 16), 16), Long.parseUnsignedLong(barcode.substring(16), 16), slot);
+    }
+
+    // Only the booking that holds the room's generation revokes it; keys already cut for the next guest stay valid
+    @Override
+    public void guestCheckedOut(RoomBooking booking) {
+        Room room = booking.getRoom();
+        Integer slot = slots.get(room);
+        if (slot == null) {
+            return;
+        }
+        synchronized (room) {
+            if (booking.getReservationNumber().equals(holders.get(slot))) {
+                generations.incrementAndGet(slot);
+                holders.set(slot, null);
+            }
+        }
+    }
+
+    private RoomKey newKey(int slot, int generation, boolean master) {
+        int sequence = keySequence.incrementAndGet();
+        long id = ((long) slot << 40) | ((long) (generation & GENERATION_MASK) << 16) | (sequence & 0xFFFF);
+        RoomKey key = new RoomKey();
+        key.setKeyId("K" + sequence);
+        key.setBarcode(String.format("%016x%016x", id, sipHash(k0, k1, id)));
+        key.setIssuedAt(new Date());
+        key.setActive(true);
+        key.setMaster(master);
+        return key;
+    }
+
+    // SipHash-2-4 of a single 8-byte message, so a guest cannot forge another room's or generation's token
+    private static long sipHash(long k0, long k1, long message) {
+        long v0 = k0 ^ 0x736f6d6570736575L;
+        long v1 = k1 ^ 0x646f72616e646f6dL;
+        long v2 = k0 ^ 0x6c7967656e657261L;
+        long v3 = k1 ^ 0x7465646279746573L;
+        long last = 8L << 56;
+        for (int block = 0; block < 2; block++) {
+            long m = block == 0 ? message : last;
+            v3 ^= m;
+            for (int round = 0; round < 2; round++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+        v2 ^= 0xff;
+        for (int round = 0; round < 4; round++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+}
@@ -0,0 +1,32 @@
+package educative.HotelManagement;
+
+// A free room found by a search, with the total price of the requested stay
+public class RoomOffer {
+    private final HotelBranch branch;
+    private final Room room;
+    private final double price;
+
+    public RoomOffer(HotelBranch branch, Room room, double price) {
+        this.branch = branch;
+        this.room = room;
+        this.price = price;
+    }
+
+    // Getters
+    public HotelBranch getBranch() {
+        return branch;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    @Override
+    public String toString() {
+        return branch.getName() + " room " + room.getRoomNumber() + " $" + String.format("%.2f", price);
+    }
+}
@@ -6,11 +6,11 @@ import java.util.ArrayList;
 
 public abstract class Service {
     private Date issueAt;
+    private double price;
 
     public boolean addInvoiceItem(Invoice invoice) {
-        // Add invoice item logic
-        System.out.println("Invoice item added.");
-        return true;
+        // Posted to the stay's folio; the invoice total is read from the ledger at billing time
+        return InvoiceLedger.getInstance().charge(invoice.getReservationNumber(), this);
     }
 
     // Getters and Setters
@@ -21,4 +21,12 @@ public abstract class Service {
     public void setIssueAt(Date issueAt) {
         this.issueAt = issueAt;
     }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
 }
\ No newline at end of file
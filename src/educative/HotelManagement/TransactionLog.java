@@ -0,0 +1,143 @@
+package educative.HotelManagement;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.function.Consumer;
+
+// Append-only file of completed bill transactions, one binary record each:
+//   type, branch, reservation number, amount in cents, status, creation time.
+// Payments are appended as they complete; the overnight reconciliation streams the day's file back.
+public class TransactionLog implements Closeable {
+    private static final byte CASH = 1;
+    private static final byte CHECK = 2;
+    private static final byte CREDIT_CARD = 3;
+
+    private DataOutputStream out;
+    private long appended;
+
+    private static class Holder {
+        private static final TransactionLog INSTANCE = new TransactionLog();
+    }
+
+    public static TransactionLog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public TransactionLog() {
+    }
+
+    public TransactionLog(Path file) throws IOException {
+        open(file);
+    }
+
+    // Starts appending to the file, e.g. at the start of a business day; closes any file opened before
+    public synchronized void open(Path file) throws IOException {
+        close();
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND), 1 << 16));
+        appended = 0;
+    }
+
+    // Returns false when no file is open; records are buffered until flush or close
+    public synchronized boolean append(BillTransaction transaction) {
+        if (out == null) {
+            return false;
+        }
+        try {
+            out.writeByte(typeOf(transaction));
+            out.writeUTF(nullToEmpty(transaction.getBranch()));
+            out.writeUTF(nullToEmpty(transaction.getReservationNumber()));
+            out.writeLong(Math.round(transaction.getAmount() * 100));
+            out.writeByte(transaction.getStatus() == null ? -1 : transaction.getStatus().ordinal());
+            out.writeLong(transaction.getCreationDate() == null ? -1 : transaction.getCreationDate().getTime());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not log transaction for " + transaction.getReservationNumber(), e);
+        }
+        appended++;
+        return true;
+    }
+
+    public synchronized void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    public synchronized long getAppended() {
+        return appended;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    // Streams every complete record to the consumer in append order; a record cut short by a crash ends the replay
+    public static long replay(Path file, Consumer<BillTransaction> consumer) throws IOException {
+        long replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            int type;
+            while ((type = in.read()) >= 0) {
+                BillTransaction transaction;
+                try {
+                    transaction = newTransaction(type);
+                    transaction.setBranch(in.readUTF());
+                    transaction.setReservationNumber(in.readUTF());
+                    transaction.setAmount(in.readLong() / 100.0);
+                    byte status = in.readByte();
+                    transaction.setStatus(status < 0 ? null : PaymentStatus.values()[status]);
+                    long created = in.readLong();
+                    transaction.setCreationDate(created < 0 ? null : new Date(created));
+                } catch (EOFException e) {
+                    break;
+                }
+                consumer.accept(transaction);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private static byte typeOf(BillTransaction transaction) {
+        if (transaction instanceof CashTransaction) {
+            return CASH;
+        }
+        if (transaction instanceof CheckTransaction) {
+            return CHECK;
+        }
+        if (transaction instanceof CreditCardTransaction) {
+            return CREDIT_CARD;
+        }
+        throw new IllegalArgumentException("Unknown transaction type " + transaction.getClass().getName());
+    }
+
+    private static BillTransaction newTransaction(int type) throws IOException {
+        switch (type) {
+            case CASH:
+                return new CashTransaction();
+            case CHECK:
+                return new CheckTransaction();
+            case CREDIT_CARD:
+                return new CreditCardTransaction();
+            default:
+                throw new IOException("Corrupt transaction log: unknown record type " + type);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
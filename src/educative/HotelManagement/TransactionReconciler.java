@@ -0,0 +1,139 @@
+package educative.HotelManagement;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Overnight reconciliation of a day's transaction log against the invoices it should have paid.
+// The log is read once, sequentially, and totalled per stay across every branch, since a guest may settle
+// part of a bill at another branch and invoices do not record one. The stays are then reconciled in slices
+// on a fork-join pool; every slice only reads the shared maps.
+public class TransactionReconciler {
+    private static final int STAYS_PER_TASK = 4_096;
+
+    private final ForkJoinPool pool;
+
+    public TransactionReconciler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TransactionReconciler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // Invoices are keyed by reservation number
+    public ReconciliationReport reconcile(Path log, Map<String, Invoice> invoices) throws IOException {
+        Map<String, StayPayments> byStay = new HashMap<>(invoices.size() * 2);
+        Set<String> branches = new HashSet<>();
+        long transactions = TransactionLog.replay(log, transaction -> {
+            branches.add(transaction.getBranch());
+            byStay.computeIfAbsent(transaction.getReservationNumber(), number -> new StayPayments(transaction.getBranch()))
+                    .cents += signedCents(transaction);
+        });
+
+        List<Map.Entry<String, StayPayments>> stays = new ArrayList<>(byStay.entrySet());
+        StayTotals totals = pool.invoke(new ReconcileTask(stays, 0, stays.size(), invoices));
+
+        for (Map.Entry<String, Invoice> entry : invoices.entrySet()) {
+            if (!byStay.containsKey(entry.getKey())) {
+                totals.mismatches.add(new ReconciliationMismatch(MismatchType.NO_PAYMENT, null, entry.getKey(),
+                        centsOf(entry.getValue().getAmount()), 0));
+            }
+        }
+        return new ReconciliationReport(transactions, branches.size(), totals.matched, totals.paidCents, totals.mismatches);
+    }
+
+    // Settled money counts towards the stay and refunds count against it; declined or pending attempts are ignored
+    private static long signedCents(BillTransaction transaction) {
+        PaymentStatus status = transaction.getStatus();
+        if (status == PaymentStatus.COMPLETED || status == PaymentStatus.SETTLING || status == PaymentStatus.SETTLED) {
+            return centsOf(transaction.getAmount());
+        }
+        return status == PaymentStatus.REFUNDED ? -centsOf(transaction.getAmount()) : 0;
+    }
+
+    private static long centsOf(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    // A mismatch names the branch that took the stay's first payment
+    private static void reconcileStay(String reservationNumber, StayPayments payments, Map<String, Invoice> invoices,
+                                      StayTotals totals) {
+        long paid = payments.cents;
+        totals.paidCents += paid;
+        Invoice invoice = invoices.get(reservationNumber);
+        if (invoice == null) {
+            totals.mismatches.add(new ReconciliationMismatch(MismatchType.NO_INVOICE, payments.branch, reservationNumber, 0, paid));
+            return;
+        }
+        long invoiced = centsOf(invoice.getAmount());
+        if (paid < invoiced) {
+            totals.mismatches.add(new ReconciliationMismatch(MismatchType.UNDERPAID, payments.branch, reservationNumber, invoiced, paid));
+        } else if (paid > invoiced) {
+            totals.mismatches.add(new ReconciliationMismatch(MismatchType.OVERPAID, payments.branch, reservationNumber, invoiced, paid));
+        } else {
+            totals.matched++;
+        }
+    }
+
+    private static class StayPayments {
+        final String branch;
+        long cents;
+
+        StayPayments(String branch) {
+            this.branch = branch;
+        }
+    }
+
+    private static class StayTotals {
+        long matched;
+        long paidCents;
+        final List<ReconciliationMismatch> mismatches = new ArrayList<>();
+
+        StayTotals combine(StayTotals other) {
+            matched += other.matched;
+            paidCents += other.paidCents;
+            mismatches.addAll(other.mismatches);
+            return this;
+        }
+    }
+
+    // Splits the stay list in halves until a slice is small enough to reconcile directly
+    private static class ReconcileTask extends RecursiveTask<StayTotals> {
+        private final List<Map.Entry<String, StayPayments>> stays;
+        private final int from;
+        private final int to;
+        private final Map<String, Invoice> invoices;
+
+        ReconcileTask(List<Map.Entry<String, StayPayments>> stays, int from, int to, Map<String, Invoice> invoices) {
+            this.stays = stays;
+            this.from = from;
+            this.to = to;
+            this.invoices = invoices;
+        }
+
+        @Override
+        protected StayTotals compute() {
+            if (to - from <= STAYS_PER_TASK) {
+                StayTotals totals = new StayTotals();
+                for (int i = from; i < to; i++) {
+                    Map.Entry<String, StayPayments> stay = stays.get(i);
+                    reconcileStay(stay.getKey(), stay.getValue(), invoices, totals);
+                }
+                return totals;
+            }
+            int mid = (from + to) >>> 1;
+            ReconcileTask left = new ReconcileTask(stays, from, mid, invoices);
+            left.fork();
+            StayTotals right = new ReconcileTask(stays, mid, to, invoices).compute();
+            return left.join().combine(right);
+        }
+    }
+}